@@ -0,0 +1,102 @@
+package simplf;
+
+import java.util.List;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.BaseErrorListener;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.Recognizer;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import simplf.parser.simplfLexer;
+import simplf.parser.simplfParser;
+
+// The front end generated from simplf.g4. It is the only class that refers
+// to ANTLR, so a run that never parses with it, such as one served from
+// ScriptCache, never loads the ANTLR runtime.
+final class AntlrParser {
+    // One lexer, token stream and parser serve every parse; each parse only
+    // points them at new input.
+    private static final simplfLexer lexer = new simplfLexer(null);
+    private static final CommonTokenStream tokens = new CommonTokenStream(lexer);
+    private static final simplfParser parser = new simplfParser(tokens);
+
+    // Syntax errors are printed by ANTLR's console listener; this one makes
+    // Simplf skip the repaired program instead of executing it.
+    private static final BaseErrorListener SYNTAX_ERRORS = new BaseErrorListener() {
+        @Override
+        public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int col, String msg,
+            RecognitionException e) {
+            Simplf.hadError = true;
+        }
+    };
+
+    private AntlrParser() {
+
+    }
+
+    // Parses with SLL prediction first, which is cheaper and right for any
+    // input it accepts, bailing out at the first syntax error. Only then is
+    // the input parsed again with full LL prediction and the default error
+    // recovery, which reports the errors and sets hadError. Either way the
+    // whole input is lexed up front, once.
+    static List<Stmt> parse(String source) {
+        try {
+            return parseTokens(source);
+        } finally {
+            // Drop the source and its tokens until the next parse.
+            lexer.setInputStream(CharStreams.fromString(""));
+            tokens.setTokenSource(lexer);
+            parser.setTokenStream(tokens);
+        }
+    }
+
+    private static List<Stmt> parseTokens(String source) {
+        long start = Phases.start();
+        lexer.setInputStream(CharStreams.fromString(source));
+        tokens.setTokenSource(lexer);
+        tokens.fill();
+        Phases.end(Phases.Phase.LEX, start);
+
+        start = Phases.start();
+        parser.setTokenStream(tokens);
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            List<Stmt> program = parser.program().val;
+            // program does not end at EOF, so without error recovery an
+            // unexpected token just ends it early.
+            if (tokens.LA(1) == IntStream.EOF) {
+                Phases.end(Phases.Phase.PARSE_SLL, start);
+                return program;
+            }
+        } catch (ParseCancellationException e) {
+            // Parsed again below.
+        }
+        Phases.end(Phases.Phase.PARSE_SLL, start);
+
+        start = Phases.start();
+        tokens.seek(0);
+        parser.reset();
+        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        parser.addErrorListener(SYNTAX_ERRORS);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        List<Stmt> program = parser.program().val;
+        // Recovery cannot get past a token no declaration starts with, such
+        // as a stray '}', so the rest of the input is reported here.
+        if (tokens.LA(1) != IntStream.EOF) {
+            parser.notifyErrorListeners(tokens.LT(1), "extraneous input '" + tokens.LT(1).getText() + "' expecting <EOF>",
+                null);
+        }
+        Phases.end(Phases.Phase.PARSE_LL, start);
+        return program;
+    }
+}
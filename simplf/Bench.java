@@ -0,0 +1,177 @@
+package simplf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Times each execution engine on the given scripts, e.g.
+//   java -cp bin:antlr-4.13.2-complete.jar simplf.Bench bench/*.simplf
+// Programs are parsed, desugared and optimized once; every run gets fresh
+// globals and its output is discarded. KB/run is what the benchmark thread
+// allocated during a run.
+//
+// With --parse, times the front ends instead: each script is repeated to
+// make a file of at least PARSE_BYTES, which is read and parsed whole by the
+// ANTLR grammar and by PrattParser, then mapped and parsed by PrattParser.
+public class Bench {
+    // Swallows print output without copying it anywhere.
+    private static final WritableByteChannel SINK = new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer src) {
+            int count = src.remaining();
+            src.position(src.limit());
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+
+        }
+    };
+
+    private static final String[] ENGINES = { "tree", "tree-spec", "tree-jit", "closures", "nanbox" };
+    private static final String[] PARSERS = { "antlr", "pratt", "pratt-mmap" };
+    private static final int PARSE_BYTES = 1 << 20;
+
+    public static void main(String args[]) throws IOException {
+        int runs = 10;
+        boolean parse = false;
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--runs")) {
+                runs = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--parse")) {
+                parse = true;
+            } else {
+                paths.add(args[i]);
+            }
+        }
+
+        if (parse) {
+            benchParsers(paths, runs);
+            return;
+        }
+
+        System.out.printf("%-32s %-10s %10s %10s %12s%n", "script", "engine", "ms/run", "speedup", "KB/run");
+        for (String path : paths) {
+            byte[] bytes = Files.readAllBytes(Paths.get(path));
+            List<Stmt> program = (new Optimizer()).optimize((new Desugar()).desugar(Simplf.parse(new String(bytes, Charset.defaultCharset()))));
+
+            double baseline = 0;
+            for (String engine : ENGINES) {
+                double[] sample = time(engine, program, runs);
+                double millis = sample[0];
+                if (baseline == 0) {
+                    baseline = millis;
+                }
+                System.out.printf("%-32s %-10s %10.2f %9.2fx %12.0f%n", path, engine, millis, baseline / millis, sample[1]);
+            }
+        }
+    }
+
+    private static void benchParsers(List<String> paths, int runs) throws IOException {
+        System.out.printf("%-32s %-10s %10s %10s %10s %12s%n", "script", "parser", "ms/run", "MB/s", "speedup", "KB/run");
+        for (String path : paths) {
+            String script = new String(Files.readAllBytes(Paths.get(path)), Charset.defaultCharset()) + "\n";
+            StringBuilder input = new StringBuilder();
+            while (input.length() < PARSE_BYTES) {
+                input.append(script);
+            }
+            Path file = Files.createTempFile("bench", ".simplf");
+            Files.write(file, input.toString().getBytes(Charset.defaultCharset()));
+            double megabytes = Files.size(file) / (double) (1 << 20);
+
+            double baseline = 0;
+            for (String parser : PARSERS) {
+                double[] sample = time(() -> parse(parser, file), runs);
+                double millis = sample[0];
+                if (baseline == 0) {
+                    baseline = millis;
+                }
+                System.out.printf("%-32s %-10s %10.2f %10.2f %9.2fx %12.0f%n", path, parser, millis,
+                    megabytes / (millis / 1000), baseline / millis, sample[1]);
+            }
+            Files.delete(file);
+        }
+    }
+
+    private static List<Stmt> parse(String parser, Path file) {
+        try {
+            switch (parser) {
+                case "antlr":
+                    return Simplf.parse(new String(Files.readAllBytes(file), Charset.defaultCharset()));
+                case "pratt":
+                    return new PrattParser(new String(Files.readAllBytes(file), Charset.defaultCharset())).parse();
+                case "pratt-mmap":
+                    return new PrattParser(MappedSource.map(file, Charset.defaultCharset())).parse();
+                default:
+                    throw new IllegalArgumentException(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static double[] time(String engine, List<Stmt> program, int runs) {
+        WritableByteChannel stdout = Output.redirect(SINK);
+        try {
+            return time(() -> run(engine, program), runs);
+        } finally {
+            Output.redirect(stdout);
+        }
+    }
+
+    // Median wall time and allocation of one run, after as many warm-up runs.
+    private static double[] time(Runnable run, int runs) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        double[] samples = new double[runs];
+        double[] allocated = new double[runs];
+        for (int i = 0; i < runs * 2; i++) {
+            long bytes = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            run.run();
+            if (i >= runs) {
+                samples[i - runs] = (System.nanoTime() - start) / 1e6;
+                allocated[i - runs] = (threads.getCurrentThreadAllocatedBytes() - bytes) / 1024.0;
+            }
+        }
+        Arrays.sort(samples);
+        Arrays.sort(allocated);
+        return new double[] { samples[runs / 2], allocated[runs / 2] };
+    }
+
+    private static void run(String engine, List<Stmt> program) {
+        newEngine(engine).interpret(program);
+    }
+
+    private static Engine newEngine(String engine) {
+        switch (engine) {
+            case "tree":
+                return new Interpreter();
+            case "tree-spec":
+                return new Interpreter(true, false);
+            case "tree-jit":
+                return new Interpreter(false, true);
+            case "closures":
+                return new ClosureCompiler();
+            case "nanbox":
+                return new NanBoxCompiler();
+            default:
+                throw new IllegalArgumentException(engine);
+        }
+    }
+}
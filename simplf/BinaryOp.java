@@ -0,0 +1,152 @@
+package simplf;
+
+// Type-specialized implementation of an Expr.Binary. A node starts without
+// one, installs the specialization matching the first operands it sees, and
+// replaces it when a guard fails. Nodes that keep changing type settle on
+// GENERIC, which is the unspecialized Interpreter.binary.
+abstract class BinaryOp {
+    private static final int MAX_REWRITES = 3;
+
+    abstract Object execute(Expr.Binary node, Object left, Object right);
+
+    static BinaryOp specialize(Expr.Binary node, Object left, Object right) {
+        BinaryOp op = node.rewrites < MAX_REWRITES ? choose(node.op.type, left, right) : GENERIC;
+        node.rewrites++;
+        node.specialized = op;
+        return op;
+    }
+
+    // Guard failed: rewrite the node and run the new specialization.
+    static Object respecialize(Expr.Binary node, Object left, Object right) {
+        return specialize(node, left, right).execute(node, left, right);
+    }
+
+    private static BinaryOp choose(TokenType type, Object left, Object right) {
+        if (type == TokenType.PLUS && (Rope.isString(left) || Rope.isString(right))) {
+            return STRING_CONCAT;
+        }
+        if (!(left instanceof Double && right instanceof Double)) {
+            return GENERIC;
+        }
+        switch (type) {
+            case PLUS:
+                return NUMBER_ADD;
+            case MINUS:
+                return NUMBER_SUBTRACT;
+            case STAR:
+                return NUMBER_MULTIPLY;
+            case SLASH:
+                return NUMBER_DIVIDE;
+            case GREATER:
+                return NUMBER_GREATER;
+            case GREATER_EQUAL:
+                return NUMBER_GREATER_EQUAL;
+            case LESS:
+                return NUMBER_LESS;
+            case LESS_EQUAL:
+                return NUMBER_LESS_EQUAL;
+            default:
+                return GENERIC;
+        }
+    }
+
+    static final BinaryOp GENERIC = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            return Interpreter.binary(node.op, left, right);
+        }
+    };
+
+    static final BinaryOp STRING_CONCAT = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (Rope.isString(left) || Rope.isString(right)) {
+                return Rope.concat(left, right);
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_ADD = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left + (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_SUBTRACT = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left - (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_MULTIPLY = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left * (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_DIVIDE = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                if ((double) right == 0) {
+                    throw new RuntimeError(node.op, "Cannot divide by zero.");
+                }
+                return (double) left / (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_GREATER = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left > (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_GREATER_EQUAL = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left >= (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_LESS = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left < (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+
+    static final BinaryOp NUMBER_LESS_EQUAL = new BinaryOp() {
+        @Override
+        Object execute(Expr.Binary node, Object left, Object right) {
+            if (left instanceof Double && right instanceof Double) {
+                return (double) left <= (double) right;
+            }
+            return respecialize(node, left, right);
+        }
+    };
+}
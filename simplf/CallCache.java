@@ -0,0 +1,95 @@
+package simplf;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// The functions one call site has called, up to POLYMORPHIC_LIMIT of them.
+// A callee identical to a cached one has already passed the site's callable
+// and arity checks, so Interpreter calls it straight away. Past the limit
+// the site is megamorphic: it keeps its entries but caches nothing new.
+//
+// A site whose callee is a global that has never been reassigned is also
+// pinned to that function, for as long as the global's Assumption holds,
+// and then skips evaluating the callee too. The pin names the Globals it
+// was made in, since the syntax tree outlives an Interpreter.
+final class CallCache {
+    static final int POLYMORPHIC_LIMIT = 4;
+
+    // With --ic-stats, every site is kept for report().
+    static boolean recordSites;
+    private static final List<CallCache> sites = new ArrayList<>();
+
+    private final Token paren;
+    private final SimplfCallable[] targets = new SimplfCallable[POLYMORPHIC_LIMIT];
+    private int count;
+    private boolean megamorphic;
+    private long hits, misses;
+
+    private Globals pinnedIn;
+    private Globals.Assumption pinnedWhile;
+    private SimplfCallable pinned;
+
+    private CallCache(Token paren) {
+        this.paren = paren;
+    }
+
+    static CallCache create(Token paren) {
+        CallCache cache = new CallCache(paren);
+        if (recordSites) {
+            sites.add(cache);
+        }
+        return cache;
+    }
+
+    SimplfCallable lookup(Object callee) {
+        for (int i = 0; i < count; i++) {
+            if (targets[i] == callee) {
+                hits++;
+                return targets[i];
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    SimplfCallable pinned(Globals globals) {
+        if (pinnedIn == globals && pinnedWhile.isValid()) {
+            hits++;
+            return pinned;
+        }
+        return null;
+    }
+
+    void pin(Globals globals, Globals.Assumption assumption, SimplfCallable function) {
+        pinnedIn = globals;
+        pinnedWhile = assumption;
+        pinned = function;
+    }
+
+    void add(SimplfCallable function) {
+        if (count < POLYMORPHIC_LIMIT) {
+            targets[count++] = function;
+        } else {
+            megamorphic = true;
+        }
+    }
+
+    private String state() {
+        if (megamorphic) {
+            return "megamorphic";
+        }
+        return count <= 1 ? "monomorphic" : "polymorphic";
+    }
+
+    static void report(PrintStream out) {
+        sites.sort(Comparator.comparingInt((CallCache site) -> site.paren.line).thenComparingInt(site -> site.paren.col));
+        out.println("call sites: " + sites.size());
+        for (CallCache site : sites) {
+            out.println("[line " + site.paren.line + " col " + site.paren.col + "] " + site.state()
+                + (site.pinned != null && site.pinnedWhile.isValid() ? " pinned" : "")
+                + " targets=" + site.count + " hits=" + site.hits + " misses=" + site.misses);
+        }
+    }
+}
@@ -0,0 +1,485 @@
+package simplf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Just enough of the class-file format for JvmCompiler: a constant pool,
+// fields, and methods with a plain Code attribute. Classes are written as
+// version 49 so the verifier infers frame types itself and no StackMapTable
+// has to be computed. Anything that does not fit the format's limits throws
+// UnsupportedOperationException.
+class ClassFile {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    private static final int VERSION = 49;
+
+    private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+    private final DataOutputStream poolOut = new DataOutputStream(pool);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+
+    private final int thisClass, superClass;
+    private final int[] interfaces;
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<Code> methods = new ArrayList<>();
+
+    ClassFile(String name, String superName, String... interfaceNames) {
+        thisClass = classRef(name);
+        superClass = classRef(superName);
+        interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = classRef(interfaceNames[i]);
+        }
+    }
+
+    void field(int access, String name, String descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    // Detached code that can later be appended to a method.
+    Code fragment() {
+        return new Code(0, 0, 0);
+    }
+
+    Code method(int access, String name, String descriptor) {
+        Code code = new Code(access, utf8(name), utf8(descriptor));
+        methods.add(code);
+        return code;
+    }
+
+    byte[] toBytes() {
+        int codeAttribute = utf8("Code");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(VERSION);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int i : interfaces) {
+                out.writeShort(i);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for (Code code : methods) {
+                code.writeTo(out, codeAttribute);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Constant pool
+
+    int utf8(String value) {
+        Integer index = poolIndex.get("U" + value);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(1);
+            poolOut.writeUTF(value);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return add("U" + value, 1);
+    }
+
+    int classRef(String name) {
+        return entry("C" + name, 7, utf8(name), -1);
+    }
+
+    int string(String value) {
+        return entry("S" + value, 8, utf8(value), -1);
+    }
+
+    int doubleConstant(double value) {
+        String key = "D" + Double.doubleToRawLongBits(value);
+        Integer index = poolIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(6);
+            poolOut.writeDouble(value);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return add(key, 2);
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        return member("F", 9, owner, name, descriptor);
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        return member("M", 10, owner, name, descriptor);
+    }
+
+    int interfaceMethodRef(String owner, String name, String descriptor) {
+        return member("I", 11, owner, name, descriptor);
+    }
+
+    private int member(String kind, int tag, String owner, String name, String descriptor) {
+        int nameAndType = entry("N" + name + ":" + descriptor, 12, utf8(name), utf8(descriptor));
+        return entry(kind + owner + "." + name + ":" + descriptor, tag, classRef(owner), nameAndType);
+    }
+
+    private int entry(String key, int tag, int first, int second) {
+        Integer index = poolIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        try {
+            poolOut.writeByte(tag);
+            poolOut.writeShort(first);
+            if (second >= 0) {
+                poolOut.writeShort(second);
+            }
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return add(key, 1);
+    }
+
+    private int add(String key, int size) {
+        int index = poolCount;
+        poolCount += size;
+        if (poolCount > 0xFFFF) {
+            throw new UnsupportedOperationException("Constant pool too large.");
+        }
+        poolIndex.put(key, index);
+        return index;
+    }
+
+    // Number of stack slots taken by the arguments and by the result of a
+    // method descriptor.
+    private static int argumentSlots(String descriptor) {
+        int slots = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            boolean array = false;
+            while (c == '[') {
+                array = true;
+                c = descriptor.charAt(++i);
+            }
+            if (c == 'L') {
+                i = descriptor.indexOf(';', i);
+            }
+            slots += !array && (c == 'D' || c == 'J') ? 2 : 1;
+            i++;
+        }
+        return slots;
+    }
+
+    private static int returnSlots(String descriptor) {
+        char c = descriptor.charAt(descriptor.indexOf(')') + 1);
+        return c == 'V' ? 0 : c == 'D' || c == 'J' ? 2 : 1;
+    }
+
+    static class Label {
+        private int position = -1;
+        private int height = -1;
+        private final List<Integer> jumps = new ArrayList<>();
+    }
+
+    // Bytecode of one method. Tracks the operand stack height so max_stack
+    // comes out right; the height after an unconditional jump is taken from
+    // the next label placed.
+    class Code {
+        private final int access, name, descriptor;
+        private byte[] code = new byte[256];
+        private int length;
+        private int height, maxStack, maxLocals;
+        private boolean reachable = true;
+
+        private Code(int access, int name, int descriptor) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        // Copies the instructions of a fragment to the end of this method.
+        // Branches are relative, so the fragment's jumps stay valid.
+        void append(Code fragment) {
+            for (int i = 0; i < fragment.length; i++) {
+                emit(fragment.code[i]);
+            }
+            maxStack = Math.max(maxStack, height + fragment.maxStack);
+            height += fragment.height;
+            reachable = fragment.reachable;
+        }
+
+        int length() {
+            return length;
+        }
+
+        void maxLocals(int maxLocals) {
+            this.maxLocals = maxLocals;
+        }
+
+        // Plain instruction with no operands.
+        void op(int opcode, int stackEffect) {
+            emit(opcode);
+            adjust(stackEffect);
+            if (opcode == ATHROW || (opcode >= IRETURN && opcode <= RETURN)) {
+                reachable = false;
+            }
+        }
+
+        void constant(int value) {
+            if (value >= -1 && value <= 5) {
+                emit(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                emit(BIPUSH);
+                emit(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                emit(SIPUSH);
+                emitShort(value);
+            } else {
+                throw new UnsupportedOperationException("Integer constant too large.");
+            }
+            adjust(1);
+        }
+
+        void constant(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                emit(DCONST_0);
+            } else if (value == 1.0) {
+                emit(DCONST_1);
+            } else {
+                emit(LDC2_W);
+                emitShort(doubleConstant(value));
+            }
+            adjust(2);
+        }
+
+        void constant(String value) {
+            int index = string(value);
+            if (index <= 0xFF) {
+                emit(LDC);
+                emit(index);
+            } else {
+                emit(LDC_W);
+                emitShort(index);
+            }
+            adjust(1);
+        }
+
+        void local(int opcode, int index) {
+            if (index > 0xFF) {
+                emit(WIDE);
+                emit(opcode);
+                emitShort(index);
+            } else {
+                emit(opcode);
+                emit(index);
+            }
+            boolean wide = opcode == DLOAD || opcode == DSTORE;
+            boolean load = opcode == ALOAD || opcode == DLOAD;
+            adjust((load ? 1 : -1) * (wide ? 2 : 1));
+        }
+
+        void type(int opcode, String className) {
+            emit(opcode);
+            emitShort(classRef(className));
+            adjust(opcode == NEW ? 1 : 0);
+        }
+
+        void field(int opcode, String owner, String name, String descriptor) {
+            emit(opcode);
+            emitShort(fieldRef(owner, name, descriptor));
+            int size = descriptor.equals("D") || descriptor.equals("J") ? 2 : 1;
+            switch (opcode) {
+                case GETSTATIC:
+                    adjust(size);
+                    break;
+                case PUTSTATIC:
+                    adjust(-size);
+                    break;
+                case GETFIELD:
+                    adjust(size - 1);
+                    break;
+                default:
+                    adjust(-size - 1);
+                    break;
+            }
+        }
+
+        void invoke(int opcode, String owner, String name, String descriptor) {
+            int receiver = opcode == INVOKESTATIC ? 0 : 1;
+            int arguments = argumentSlots(descriptor) + receiver;
+            if (opcode == INVOKEINTERFACE) {
+                emit(opcode);
+                emitShort(interfaceMethodRef(owner, name, descriptor));
+                emit(arguments);
+                emit(0);
+            } else {
+                emit(opcode);
+                emitShort(methodRef(owner, name, descriptor));
+            }
+            adjust(returnSlots(descriptor) - arguments);
+        }
+
+        void jump(int opcode, Label target) {
+            int popped = opcode == GOTO ? 0 : opcode >= IF_ICMPEQ && opcode <= IF_ACMPNE ? 2 : 1;
+            adjust(-popped);
+            if (target.height < 0) {
+                target.height = height;
+            }
+            int jump = length;
+            emit(opcode);
+            emitShort(0);
+            if (target.position >= 0) {
+                patch(jump, target.position);
+            } else {
+                target.jumps.add(jump);
+            }
+            if (opcode == GOTO) {
+                reachable = false;
+            }
+        }
+
+        void mark(Label label) {
+            if (!reachable) {
+                height = label.height;
+                reachable = true;
+            } else if (label.height < 0) {
+                label.height = height;
+            }
+            label.position = length;
+            for (int jump : label.jumps) {
+                patch(jump, label.position);
+            }
+        }
+
+        private void patch(int jump, int target) {
+            int offset = target - jump;
+            if (offset < Short.MIN_VALUE || offset > Short.MAX_VALUE) {
+                throw new UnsupportedOperationException("Branch offset too large.");
+            }
+            code[jump + 1] = (byte) (offset >> 8);
+            code[jump + 2] = (byte) offset;
+        }
+
+        private void adjust(int effect) {
+            height += effect;
+            if (height > maxStack) {
+                maxStack = height;
+            }
+        }
+
+        private void emit(int b) {
+            if (length == code.length) {
+                code = java.util.Arrays.copyOf(code, length * 2);
+            }
+            code[length++] = (byte) b;
+        }
+
+        private void emitShort(int s) {
+            emit(s >> 8);
+            emit(s);
+        }
+
+        private void writeTo(DataOutputStream out, int codeAttribute) throws IOException {
+            if (length > 0xFFFF) {
+                throw new UnsupportedOperationException("Method too large.");
+            }
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeAttribute);
+            out.writeInt(12 + length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(length);
+            out.write(code, 0, length);
+            out.writeShort(0);
+            out.writeShort(0);
+        }
+    }
+
+    // Opcodes used by JvmCompiler.
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int DCONST_0 = 0x0e;
+    static final int DCONST_1 = 0x0f;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC = 0x12;
+    static final int LDC_W = 0x13;
+    static final int LDC2_W = 0x14;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int DSTORE = 0x39;
+    static final int ASTORE = 0x3a;
+    static final int AALOAD = 0x32;
+    static final int AASTORE = 0x53;
+    static final int POP = 0x57;
+    static final int POP2 = 0x58;
+    static final int DUP = 0x59;
+    static final int DUP2 = 0x5c;
+    static final int SWAP = 0x5f;
+    static final int DADD = 0x63;
+    static final int DSUB = 0x67;
+    static final int DMUL = 0x6b;
+    static final int DNEG = 0x77;
+    static final int IXOR = 0x82;
+    static final int DCMPL = 0x97;
+    static final int DCMPG = 0x98;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9a;
+    static final int IFLT = 0x9b;
+    static final int IFGE = 0x9c;
+    static final int IFGT = 0x9d;
+    static final int IFLE = 0x9e;
+    static final int IF_ICMPEQ = 0x9f;
+    static final int IF_ACMPNE = 0xa6;
+    static final int GOTO = 0xa7;
+    static final int IRETURN = 0xac;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETSTATIC = 0xb2;
+    static final int PUTSTATIC = 0xb3;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int NEW = 0xbb;
+    static final int ANEWARRAY = 0xbd;
+    static final int ATHROW = 0xbf;
+    static final int CHECKCAST = 0xc0;
+    static final int WIDE = 0xc4;
+}
@@ -0,0 +1,490 @@
+package simplf;
+
+import java.util.List;
+
+import simplf.Expr.Assign;
+import simplf.Expr.Binary;
+import simplf.Expr.Call;
+import simplf.Expr.Conditional;
+import simplf.Expr.Grouping;
+import simplf.Expr.Literal;
+import simplf.Expr.Logical;
+import simplf.Expr.Unary;
+import simplf.Expr.Variable;
+import simplf.Stmt.Block;
+import simplf.Stmt.CountedLoop;
+import simplf.Stmt.Expression;
+import simplf.Stmt.For;
+import simplf.Stmt.Function;
+import simplf.Stmt.If;
+import simplf.Stmt.Print;
+import simplf.Stmt.Var;
+import simplf.Stmt.While;
+
+// Compiles desugared, resolved statements into trees of pre-linked lambdas
+// and runs them. Operators, variable addresses and call arity are fixed when
+// a node is built, so executing a program is a chain of direct eval calls
+// with no visitor dispatch or operator switch. Statements evaluate to the
+// value Interpreter would return for them, which is what function bodies
+// need for their result.
+class ClosureCompiler implements Engine, Expr.Visitor<ClosureCompiler.Node>, Stmt.Visitor<ClosureCompiler.Node> {
+
+    interface Node {
+        Object eval(Environment env);
+    }
+
+    // Global references hold their Globals.Cell; the top-level frame only
+    // ends the chain of enclosing frames.
+    final Globals globals = new Globals();
+    private final Environment topLevel = new Environment();
+    private final Resolver resolver = new Resolver();
+    private TailCall tailCall;
+
+    // A call in tail position, left for CompiledFunction.invoke to run in
+    // place of the body that made it.
+    static final class TailCall {
+        final CompiledFunction function;
+        final Environment frame;
+        final boolean dropsResult;
+
+        TailCall(CompiledFunction function, Environment frame, boolean dropsResult) {
+            this.function = function;
+            this.frame = frame;
+            this.dropsResult = dropsResult;
+        }
+    }
+
+    @Override
+    public void interpret(List<Stmt> stmts) {
+        int resolvedGlobals = resolver.globalCount();
+        try {
+            for (Stmt stmt : stmts) {
+                resolver.resolve(stmt);
+                globals.ensureCapacity(resolver.globalCount());
+                compile(stmt).eval(topLevel);
+                resolvedGlobals = resolver.globalCount();
+            }
+        } catch (RuntimeError error) {
+            resolver.truncateGlobals(resolvedGlobals);
+            Simplf.runtimeError(error);
+        }
+    }
+
+    Node compile(Stmt stmt) {
+        return stmt.accept(this);
+    }
+
+    private Node compile(Expr expr) {
+        return expr.accept(this);
+    }
+
+    private Node[] compile(List<Stmt> stmts) {
+        Node[] nodes = new Node[stmts.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(stmts.get(i));
+        }
+        return nodes;
+    }
+
+    @Override
+    public Node visitPrintStmt(Print stmt) {
+        Node expr = compile(stmt.expr);
+        return env -> {
+            Interpreter.print(expr.eval(env));
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitExprStmt(Expression stmt) {
+        return compile(stmt.expr);
+    }
+
+    @Override
+    public Node visitVarStmt(Var stmt) {
+        int slot = stmt.slot;
+        if (stmt.global) {
+            Globals.Cell cell = globals.cell(slot);
+            if (stmt.initializer == null) {
+                return env -> {
+                    cell.define(null);
+                    return null;
+                };
+            }
+            Node initializer = compile(stmt.initializer);
+            return env -> {
+                cell.define(initializer.eval(env));
+                return null;
+            };
+        }
+        if (stmt.initializer == null) {
+            return env -> {
+                env.define(slot, null);
+                return null;
+            };
+        }
+        Node initializer = compile(stmt.initializer);
+        return env -> {
+            env.define(slot, initializer.eval(env));
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitBlockStmt(Block stmt) {
+        int frameSize = stmt.frameSize;
+        Node[] body = compile(stmt.statements);
+        if (stmt.merged) {
+            return env -> {
+                for (Node s : body) {
+                    s.eval(env);
+                }
+                return null;
+            };
+        }
+        return env -> {
+            Environment local = new Environment(frameSize, env);
+            for (Node s : body) {
+                s.eval(local);
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitIfStmt(If stmt) {
+        Node cond = compile(stmt.cond);
+        Node thenBranch = compile(stmt.thenBranch);
+        if (stmt.elseBranch == null) {
+            return env -> {
+                if (Interpreter.isTruthy(cond.eval(env))) {
+                    thenBranch.eval(env);
+                }
+                return null;
+            };
+        }
+        Node elseBranch = compile(stmt.elseBranch);
+        return env -> {
+            if (Interpreter.isTruthy(cond.eval(env))) {
+                thenBranch.eval(env);
+            } else {
+                elseBranch.eval(env);
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitWhileStmt(While stmt) {
+        Node cond = compile(stmt.cond);
+        Node body = compile(stmt.body);
+        return env -> {
+            while (Interpreter.isTruthy(cond.eval(env))) {
+                body.eval(env);
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitCountedLoopStmt(CountedLoop stmt) {
+        Node init = compile(stmt.init);
+        Node cond = compile(stmt.cond);
+        Node body = compile(stmt.body);
+        Node incr = compile(stmt.incr);
+        return env -> {
+            init.eval(env);
+            while (Interpreter.isTruthy(cond.eval(env))) {
+                body.eval(env);
+                incr.eval(env);
+            }
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitForStmt(For stmt) {
+        throw new UnsupportedOperationException("For loops are not compiled.");
+    }
+
+    @Override
+    public Node visitFunctionStmt(Function stmt) {
+        int slot = stmt.slot;
+        Node[] body = compile(stmt.body);
+        if (stmt.global) {
+            Globals.Cell cell = globals.cell(slot);
+            return env -> {
+                cell.define(new CompiledFunction(this, stmt, body, env));
+                return null;
+            };
+        }
+        return env -> {
+            env.define(slot, new CompiledFunction(this, stmt, body, env));
+            return null;
+        };
+    }
+
+    @Override
+    public Node visitBinary(Binary expr) {
+        Node left = compile(expr.left);
+        Node right = compile(expr.right);
+        Token op = expr.op;
+        switch (op.type) {
+            case PLUS:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    if (l instanceof Double && r instanceof Double) {
+                        return (double) l + (double) r;
+                    }
+                    return Interpreter.binary(op, l, r);
+                };
+            case MINUS:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    return (double) l - (double) r;
+                };
+            case STAR:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    return (double) l * (double) r;
+                };
+            case SLASH:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    if ((double) r == 0) {
+                        throw new RuntimeError(op, "Cannot divide by zero.");
+                    }
+                    return (double) l / (double) r;
+                };
+            case GREATER:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    return (double) l > (double) r;
+                };
+            case GREATER_EQUAL:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    return (double) l >= (double) r;
+                };
+            case LESS:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    return (double) l < (double) r;
+                };
+            case LESS_EQUAL:
+                return env -> {
+                    Object l = left.eval(env);
+                    Object r = right.eval(env);
+                    Interpreter.checkNumbers(op, l, r);
+                    return (double) l <= (double) r;
+                };
+            case EQUAL_EQUAL:
+                return env -> Interpreter.isEqual(left.eval(env), right.eval(env));
+            case BANG_EQUAL:
+                return env -> !Interpreter.isEqual(left.eval(env), right.eval(env));
+            default:
+                return env -> Interpreter.binary(op, left.eval(env), right.eval(env));
+        }
+    }
+
+    @Override
+    public Node visitUnary(Unary expr) {
+        Node right = compile(expr.right);
+        Token op = expr.op;
+        switch (op.type) {
+            case MINUS:
+                return env -> {
+                    Object r = right.eval(env);
+                    Interpreter.checkNumber(op, r);
+                    return -(double) r;
+                };
+            case BANG:
+                return env -> !Interpreter.isTruthy(right.eval(env));
+            default:
+                return env -> {
+                    right.eval(env);
+                    return null;
+                };
+        }
+    }
+
+    @Override
+    public Node visitLiteral(Literal expr) {
+        Object val = expr.val;
+        return env -> val;
+    }
+
+    @Override
+    public Node visitGrouping(Grouping expr) {
+        return compile(expr.expression);
+    }
+
+    @Override
+    public Node visitVarExpr(Variable expr) {
+        Token name = expr.name;
+        int depth = expr.depth, slot = expr.slot;
+        if (depth < 0) {
+            return env -> {
+                throw Interpreter.undefined(name);
+            };
+        }
+        if (expr.global) {
+            Globals.Cell cell = globals.cell(slot);
+            return env -> cell.value;
+        }
+        if (depth == 0) {
+            return env -> env.getAt(0, slot);
+        }
+        return env -> env.getAt(depth, slot);
+    }
+
+    @Override
+    public Node visitAssignExpr(Assign expr) {
+        Node value = compile(expr.value);
+        Token name = expr.name;
+        int depth = expr.depth, slot = expr.slot;
+        if (depth < 0) {
+            return env -> {
+                value.eval(env);
+                throw Interpreter.undefined(name);
+            };
+        }
+        if (expr.global) {
+            Globals.Cell cell = globals.cell(slot);
+            return env -> {
+                Object v = value.eval(env);
+                cell.assign(v);
+                return v;
+            };
+        }
+        return env -> {
+            Object v = value.eval(env);
+            env.assignAt(depth, slot, v);
+            return v;
+        };
+    }
+
+    @Override
+    public Node visitLogicalExpr(Logical expr) {
+        Node left = compile(expr.left);
+        Node right = compile(expr.right);
+        if (expr.op.type == TokenType.OR) {
+            return env -> {
+                Object l = left.eval(env);
+                return Interpreter.isTruthy(l) ? l : right.eval(env);
+            };
+        }
+        return env -> {
+            Object l = left.eval(env);
+            return !Interpreter.isTruthy(l) ? l : right.eval(env);
+        };
+    }
+
+    @Override
+    public Node visitConditionalExpr(Conditional expr) {
+        Node cond = compile(expr.cond);
+        Node thenBranch = compile(expr.thenBranch);
+        Node elseBranch = compile(expr.elseBranch);
+        return env -> Interpreter.isTruthy(cond.eval(env)) ? thenBranch.eval(env) : elseBranch.eval(env);
+    }
+
+    @Override
+    public Node visitCallExpr(Call expr) {
+        Node callee = compile(expr.callee);
+        Token paren = expr.paren;
+        Node[] args = new Node[expr.args.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = compile(expr.args.get(i));
+        }
+
+        // Arguments are evaluated straight into the callee's frame.
+        if (expr.tail) {
+            boolean dropsResult = expr.dropsResult;
+            return env -> {
+                CompiledFunction function = function(callee.eval(env), paren, args.length);
+                Environment frame = function.newFrame();
+                for (int i = 0; i < args.length; i++) {
+                    frame.define(i, args[i].eval(env));
+                }
+                tailCall = new TailCall(function, frame, dropsResult);
+                return null;
+            };
+        }
+        switch (args.length) {
+            case 0:
+                return env -> {
+                    CompiledFunction function = function(callee.eval(env), paren, 0);
+                    return function.invoke(function.newFrame());
+                };
+            case 1: {
+                Node arg0 = args[0];
+                return env -> {
+                    CompiledFunction function = function(callee.eval(env), paren, 1);
+                    Environment frame = function.newFrame();
+                    frame.define(0, arg0.eval(env));
+                    return function.invoke(frame);
+                };
+            }
+            case 2: {
+                Node arg0 = args[0], arg1 = args[1];
+                return env -> {
+                    CompiledFunction function = function(callee.eval(env), paren, 2);
+                    Environment frame = function.newFrame();
+                    frame.define(0, arg0.eval(env));
+                    frame.define(1, arg1.eval(env));
+                    return function.invoke(frame);
+                };
+            }
+            case 3: {
+                Node arg0 = args[0], arg1 = args[1], arg2 = args[2];
+                return env -> {
+                    CompiledFunction function = function(callee.eval(env), paren, 3);
+                    Environment frame = function.newFrame();
+                    frame.define(0, arg0.eval(env));
+                    frame.define(1, arg1.eval(env));
+                    frame.define(2, arg2.eval(env));
+                    return function.invoke(frame);
+                };
+            }
+            default:
+                return env -> {
+                    CompiledFunction function = function(callee.eval(env), paren, args.length);
+                    Environment frame = function.newFrame();
+                    for (int i = 0; i < args.length; i++) {
+                        frame.define(i, args[i].eval(env));
+                    }
+                    return function.invoke(frame);
+                };
+        }
+    }
+
+    TailCall takeTailCall() {
+        TailCall call = tailCall;
+        tailCall = null;
+        return call;
+    }
+
+    private static CompiledFunction function(Object callee, Token paren, int argCount) {
+        if (!(callee instanceof CompiledFunction)) {
+            throw new RuntimeError(paren, "Can only call functions.");
+        }
+        CompiledFunction function = (CompiledFunction) callee;
+        if (function.arity != argCount) {
+            throw new RuntimeError(paren, "Expected " + function.arity + " arguments but got " + argCount + ".");
+        }
+        return function;
+    }
+}
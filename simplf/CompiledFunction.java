@@ -0,0 +1,56 @@
+package simplf;
+
+// A SimPL-F function produced by ClosureCompiler.
+class CompiledFunction {
+    final String name;
+    final int arity;
+    private final int frameSize;
+    private final ClosureCompiler.Node[] body;
+    private final Environment closure;
+    private final ClosureCompiler compiler;
+
+    CompiledFunction(ClosureCompiler compiler, Stmt.Function declaration, ClosureCompiler.Node[] body,
+        Environment closure) {
+        this.compiler = compiler;
+        this.name = declaration.name.lexeme;
+        this.arity = declaration.params.size();
+        this.frameSize = declaration.frameSize;
+        this.body = body;
+        this.closure = closure;
+    }
+
+    Environment newFrame() {
+        return new Environment(frameSize, closure);
+    }
+
+    // Runs the body in a frame whose parameter slots are already filled. The
+    // result is the value of the last statement, as in SimplfFunction, and
+    // tail calls the body makes run here in a loop, as they do there.
+    Object invoke(Environment frame) {
+        CompiledFunction function = this;
+        boolean dropResult = false;
+        while (true) {
+            Object result = function.run(frame);
+            ClosureCompiler.TailCall tail = compiler.takeTailCall();
+            if (tail == null) {
+                return dropResult ? null : result;
+            }
+            function = tail.function;
+            frame = tail.frame;
+            dropResult |= tail.dropsResult;
+        }
+    }
+
+    private Object run(Environment frame) {
+        Object result = null;
+        for (ClosureCompiler.Node stmt : body) {
+            result = stmt.eval(frame);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "<fn " + name + ">";
+    }
+}
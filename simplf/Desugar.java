@@ -13,6 +13,7 @@ import simplf.Expr.Logical;
 import simplf.Expr.Unary;
 import simplf.Expr.Variable;
 import simplf.Stmt.Block;
+import simplf.Stmt.CountedLoop;
 import simplf.Stmt.Expression;
 import simplf.Stmt.For;
 import simplf.Stmt.Function;
@@ -47,6 +48,9 @@ public class Desugar implements Expr.Visitor<Expr>, Stmt.Visitor<Stmt> {
 
     @Override
     public Stmt visitVarStmt(Var stmt) {
+        if (stmt.initializer == null) {
+            return stmt;
+        }
         return new Var(stmt.name, stmt.initializer.accept(this));
     }
 
@@ -86,18 +90,27 @@ public class Desugar implements Expr.Visitor<Expr>, Stmt.Visitor<Stmt> {
 
     @Override
     public Stmt visitForStmt(For stmt) {
+        Expr init = stmt.init != null ? stmt.init.accept(this) : null;
+        Expr cond = stmt.cond != null ? stmt.cond.accept(this) : null;
+        Expr incr = stmt.incr != null ? stmt.incr.accept(this) : null;
+        Stmt new_body = stmt.body.accept(this);
+
+        if (isCounted(init, cond, incr)) {
+            return new CountedLoop((Assign) init, (Binary) cond, (Assign) incr, new_body);
+        }
+
         Stmt initStmt = new Var(new Token(TokenType.IDENTIFIER, "__for_init", null, 0, 0), null);
-        if (stmt.init != null) {
-            initStmt = new Stmt.Expression(stmt.init);
+        if (init != null) {
+            initStmt = new Stmt.Expression(init);
         }
 
-        Expr condition = stmt.cond != null ? stmt.cond : new Expr.Literal(true);
+        Expr condition = cond != null ? cond : new Expr.Literal(true);
 
-        Stmt body = stmt.body;
-        if (stmt.incr != null) {
+        Stmt body = new_body;
+        if (incr != null) {
             body = new Block(List.of(
-                stmt.body,
-                new Stmt.Expression(stmt.incr)
+                new_body,
+                new Stmt.Expression(incr)
             ));
         }
 
@@ -106,6 +119,45 @@ public class Desugar implements Expr.Visitor<Expr>, Stmt.Visitor<Stmt> {
         return new Block(List.of(initStmt, loop));
     }
 
+    // i = start; i < limit; i = i + step, with step a number literal.
+    private static boolean isCounted(Expr init, Expr cond, Expr incr) {
+        if (!(init instanceof Assign) || !(cond instanceof Binary) || !(incr instanceof Assign)) {
+            return false;
+        }
+        Symbol name = ((Assign) init).name.symbol;
+
+        Binary test = (Binary) cond;
+        switch (test.op.type) {
+            case LESS:
+            case LESS_EQUAL:
+            case GREATER:
+            case GREATER_EQUAL:
+                break;
+            default:
+                return false;
+        }
+        if (!isVariable(test.left, name)) {
+            return false;
+        }
+
+        Assign update = (Assign) incr;
+        if (update.name.symbol != name || !(update.value instanceof Binary)) {
+            return false;
+        }
+        Binary add = (Binary) update.value;
+        return add.op.type == TokenType.PLUS && isVariable(add.left, name)
+            && add.right instanceof Literal && ((Literal) add.right).val instanceof Double;
+    }
+
+    private static boolean isVariable(Expr expr, Symbol name) {
+        return expr instanceof Variable && ((Variable) expr).name.symbol == name;
+    }
+
+    @Override
+    public Stmt visitCountedLoopStmt(CountedLoop stmt) {
+        return stmt;
+    }
+
 
     @Override
     public Stmt visitFunctionStmt(Function stmt) {
@@ -0,0 +1,9 @@
+package simplf;
+
+import java.util.List;
+
+// Something that can run desugared programs. Globals persist across calls so
+// the REPL can build on earlier lines.
+interface Engine {
+    void interpret(List<Stmt> stmts);
+}
@@ -1,52 +1,49 @@
 package simplf;
 
+import java.util.Arrays;
+
 class Environment {
-    private final AssocList assocList;
-    private final Environment enclosing;
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private Object[] values;
+    final Environment enclosing;
 
     Environment() {
-        this.assocList = null;
-        this.enclosing = null;
+        this(0, null);
     }
 
-    Environment(Environment enclosing) {
-        this.assocList = null;
+    Environment(int size, Environment enclosing) {
+        this.values = size == 0 ? NO_VALUES : new Object[size];
         this.enclosing = enclosing;
     }
 
-    Environment(AssocList assocList, Environment enclosing) {
-        this.assocList = assocList;
-        this.enclosing = enclosing;
+    void define(int slot, Object value) {
+        values[slot] = value;
+    }
+
+    // Only the global frame grows; every other frame is sized by the resolver.
+    void ensureCapacity(int size) {
+        if (values.length < size) {
+            values = Arrays.copyOf(values, Math.max(size, values.length * 2));
+        }
     }
 
-    Environment define(Token varToken, String name, Object value) {
-        AssocList newList = new AssocList(name, value, this.assocList);
-        return new Environment(newList, this.enclosing);
+    void assignAt(int depth, int slot, Object value) {
+        ancestor(depth).values[slot] = value;
     }
 
-    void assign(Token name, Object value) {
-        for (AssocList cursor = assocList; cursor != null; cursor = cursor.next) {
-            if (cursor.name.equals(name.lexeme)) {
-                cursor.value = value;
-                return;
-            }
-        }
-        if (enclosing != null) {
-            enclosing.assign(name, value);
-        } else {
-            throw new RuntimeError(name, "Undefined variable '" + name.lexeme + "'");
-        }
+    Object getAt(int depth, int slot) {
+        return ancestor(depth).values[slot];
     }
 
-    Object get(Token name) {
-        for (AssocList cursor = assocList; cursor != null; cursor = cursor.next) {
-            if (cursor.name.equals(name.lexeme)) {
-                return cursor.value;
-            }
+    private Environment ancestor(int depth) {
+        if (depth == 0) {
+            return this;
         }
-        if (enclosing != null) {
-            return enclosing.get(name);
+        Environment env = enclosing;
+        for (int i = 1; i < depth; i++) {
+            env = env.enclosing;
         }
-        throw new RuntimeError(name, "Undefined variable '" + name.lexeme + "'");
+        return env;
     }
 }
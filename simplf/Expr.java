@@ -29,6 +29,9 @@ public abstract class Expr {
     public static class Binary extends Expr {
         final Expr left, right;
         Token op;
+        BinaryOp specialized;
+        int rewrites;
+        boolean numeric, leftNumeric, rightNumeric;
 
         public Binary(Expr left, Token op, Expr right) {
             this.left = left;
@@ -85,6 +88,8 @@ public abstract class Expr {
 
     public static class Variable extends Expr {
         final Token name;
+        int depth = -1, slot;
+        boolean global;
 
         public Variable(Token name) {
             this.name = name;
@@ -99,6 +104,8 @@ public abstract class Expr {
     public static class Assign extends Expr {
         final Token name;
         final Expr value;
+        int depth = -1, slot;
+        boolean global;
 
         public Assign(Token name, Expr value) {
             this.name = name;
@@ -143,6 +150,10 @@ public abstract class Expr {
         final Expr callee;
         Token paren;
         final List<Expr> args;
+        // Set by the Resolver for calls that are the last thing their
+        // function does; dropsResult when the function then returns nil.
+        boolean tail, dropsResult;
+        CallCache cache;
 
         public Call(Expr callee, Token paren, List<Expr> args) {
             this.callee = callee;
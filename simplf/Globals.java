@@ -0,0 +1,82 @@
+package simplf;
+
+import java.util.Arrays;
+
+// The global variables of Interpreter and ClosureCompiler: one Cell per slot
+// the Resolver hands out at the top level. Cells never move, so a reference
+// can keep its cell instead of walking the environment chain out to the
+// global frame.
+//
+// A cell also says whether its value can be cached. The first definition of
+// a slot comes with a valid Assumption; assigning the variable, or defining
+// the slot again (a loop body merged into the top level, or a REPL line
+// reusing the slot of one that failed), invalidates it for good. Code that
+// cached the value checks the assumption it saw when it cached.
+final class Globals {
+    static final class Assumption {
+        private boolean valid = true;
+
+        boolean isValid() {
+            return valid;
+        }
+    }
+
+    private static final Assumption INVALID = new Assumption();
+
+    static {
+        INVALID.valid = false;
+    }
+
+    static final class Cell {
+        Object value;
+        private Assumption assumption;
+
+        void define(Object value) {
+            if (assumption == null) {
+                assumption = new Assumption();
+            } else {
+                invalidate();
+            }
+            this.value = value;
+        }
+
+        void assign(Object value) {
+            invalidate();
+            this.value = value;
+        }
+
+        // Null until the slot is first defined.
+        Assumption assumption() {
+            return assumption;
+        }
+
+        private void invalidate() {
+            if (assumption != INVALID) {
+                if (assumption != null) {
+                    assumption.valid = false;
+                }
+                assumption = INVALID;
+            }
+        }
+    }
+
+    private Cell[] cells = new Cell[0];
+
+    void ensureCapacity(int size) {
+        if (size > cells.length) {
+            int old = cells.length;
+            cells = Arrays.copyOf(cells, Math.max(size, old * 2));
+            for (int i = old; i < cells.length; i++) {
+                cells[i] = new Cell();
+            }
+        }
+    }
+
+    Cell cell(int slot) {
+        return cells[slot];
+    }
+
+    Object get(int slot) {
+        return cells[slot].value;
+    }
+}
@@ -4,20 +4,54 @@ import java.util.List;
 
 import simplf.Stmt.For;
 
-class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
-    public Environment globals = new Environment();
-    private Environment environment = globals;
+class Interpreter implements Engine, Expr.Visitor<Object>, Stmt.Visitor<Object> {
+    // Globals live in cells; the top-level frame only ends the chain of
+    // enclosing frames.
+    final Globals globals = new Globals();
+    private Environment environment = new Environment();
+    private final Resolver resolver = new Resolver();
+    private final boolean specialize;
+    final boolean jit;
+    private TailCall tailCall;
+
+    // A call in tail position, left for SimplfFunction.call to run in place
+    // of the body that made it.
+    static class TailCall {
+        final SimplfFunction function;
+        final Object[] args;
+        final boolean dropsResult;
+
+        TailCall(SimplfFunction function, Object[] args, boolean dropsResult) {
+            this.function = function;
+            this.args = args;
+            this.dropsResult = dropsResult;
+        }
+    }
 
     Interpreter() {
+        this(false, false);
+    }
 
+    // With specialize set, binary operators rewrite themselves to a
+    // BinaryOp for the operand types they see. With jit set, functions are
+    // handed to JvmCompiler once they have been called THRESHOLD times.
+    Interpreter(boolean specialize, boolean jit) {
+        this.specialize = specialize;
+        this.jit = jit;
     }
 
+    @Override
     public void interpret(List<Stmt> stmts) {
+        int resolvedGlobals = resolver.globalCount();
         try {
             for (Stmt stmt : stmts) {
+                resolver.resolve(stmt);
+                globals.ensureCapacity(resolver.globalCount());
                 execute(stmt);
+                resolvedGlobals = resolver.globalCount();
             }
         } catch (RuntimeError error) {
+            resolver.truncateGlobals(resolvedGlobals);
             Simplf.runtimeError(error);
         }
     }
@@ -35,10 +69,19 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
     @Override
     public Object visitPrintStmt(Stmt.Print stmt) {
         Object val = evaluate(stmt.expr);
-        System.out.println(stringify(val));
+        print(val);
         return null;
     }
 
+    // Every engine's print statement.
+    static void print(Object value) {
+        if (value instanceof Double) {
+            Output.println((double) value);
+        } else {
+            Output.println(stringify(value));
+        }
+    }
+
     // @Override
     // public Void visitVarStmt(Stmt.Var stmt) {
     //     throw new UnsupportedOperationException("TODO: implement statements");
@@ -51,7 +94,11 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
             value = evaluate(stmt.initializer);
         }
 
-        environment = environment.define(stmt.name, stmt.name.lexeme, value);
+        if (stmt.global) {
+            globals.cell(stmt.slot).define(value);
+        } else {
+            environment.define(stmt.slot, value);
+        }
         return null;
     }
 
@@ -63,8 +110,15 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
 
     @Override
     public Object visitBlockStmt(Stmt.Block stmt) {
+        if (stmt.merged) {
+            for (Stmt s : stmt.statements) {
+                execute(s);
+            }
+            return null;
+        }
+
         Environment previous = environment;
-        environment = new Environment(previous);
+        environment = new Environment(stmt.frameSize, previous);
 
         try {
             for (Stmt s : stmt.statements) {
@@ -108,6 +162,73 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
     }
 
 
+    // Same steps as the desugared while loop, but the induction variable is
+    // carried as a double between iterations and the loop allocates no
+    // frames. It is still stored after every step so the body sees it, and
+    // if the body leaves something else in it the generic operators take
+    // over.
+    @Override
+    public Object visitCountedLoopStmt(Stmt.CountedLoop stmt) {
+        Expr.Binary cond = stmt.cond;
+        Expr.Binary add = (Expr.Binary) stmt.incr.value;
+        double step = stmt.step();
+        Expr.Assign counter = stmt.incr;
+
+        evaluate(stmt.init);
+        Object value = load(counter);
+        double i = value instanceof Double ? (double) value : 0;
+        for (;;) {
+            Object limit = evaluate(cond.right);
+            boolean test;
+            if (value instanceof Double && limit instanceof Double) {
+                test = compare(cond.op.type, i, (double) limit);
+            } else {
+                test = isTruthy(binary(cond.op, value, limit));
+            }
+            if (!test) {
+                return null;
+            }
+
+            execute(stmt.body);
+
+            Object current = load(counter);
+            if (current == value && value instanceof Double) {
+                i += step;
+                value = i;
+            } else if (current instanceof Double) {
+                i = (double) current + step;
+                value = i;
+            } else {
+                value = binary(add.op, current, step);
+            }
+            if (counter.global) {
+                globals.cell(counter.slot).assign(value);
+            } else {
+                environment.assignAt(counter.depth, counter.slot, value);
+            }
+        }
+    }
+
+    private Object load(Expr.Assign var) {
+        if (var.global) {
+            return globals.get(var.slot);
+        }
+        return environment.getAt(var.depth, var.slot);
+    }
+
+    private static boolean compare(TokenType op, double left, double right) {
+        switch (op) {
+            case LESS:
+                return left < right;
+            case LESS_EQUAL:
+                return left <= right;
+            case GREATER:
+                return left > right;
+            default:
+                return left >= right;
+        }
+    }
+
     @Override
     public Object visitForStmt(For stmt) {
         throw new UnsupportedOperationException("For loops are not interpreted.");
@@ -120,12 +241,12 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
 
     @Override
     public Object visitFunctionStmt(Stmt.Function stmt) {
-        SimplfFunction function = new SimplfFunction(stmt, null);
-
-        environment = environment.define(stmt.name, stmt.name.lexeme, function);
-
-        function.setClosure(environment);
-
+        SimplfFunction function = new SimplfFunction(stmt, environment);
+        if (stmt.global) {
+            globals.cell(stmt.slot).define(function);
+        } else {
+            environment.define(stmt.slot, function);
+        }
         return null;
     }
 
@@ -146,41 +267,60 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
 
     @Override
     public Object visitBinary(Expr.Binary expr) {
+        // Numeric subtrees run unboxed and box once, here.
+        if (expr.numeric) {
+            return evaluateNumber(expr);
+        }
+        if (expr.leftNumeric || expr.rightNumeric) {
+            return expr.op.type == TokenType.PLUS ? addNumber(expr) : (Object) (applyNumbers(expr) != 0);
+        }
+
         Object left = evaluate(expr.left);
         Object right = evaluate(expr.right);
 
-        switch (expr.op.type) {
+        if (specialize) {
+            BinaryOp node = expr.specialized;
+            if (node == null) {
+                node = BinaryOp.specialize(expr, left, right);
+            }
+            return node.execute(expr, left, right);
+        }
+        return binary(expr.op, left, right);
+    }
+
+    static Object binary(Token op, Object left, Object right) {
+        switch (op.type) {
             case PLUS:
-                if (left instanceof String || right instanceof String) {
-                    return stringify(left) + stringify(right);
+                if (Rope.isString(left) || Rope.isString(right)) {
+                    return Rope.concat(left, right);
                 }
                 if (left instanceof Double && right instanceof Double) {
                     return (double) left + (double) right;
                 }
-                throw new RuntimeError(expr.op, "Addition operation not supported for operands.");
+                throw new RuntimeError(op, "Addition operation not supported for operands.");
             case MINUS:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 return (double) left - (double) right;
             case STAR:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 return (double) left * (double) right;
             case SLASH:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 if ((double) right == 0) {
-                    throw new RuntimeError(expr.op, "Cannot divide by zero.");
+                    throw new RuntimeError(op, "Cannot divide by zero.");
                 }
                 return (double) left / (double) right;
             case GREATER:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 return (double) left > (double) right;
             case GREATER_EQUAL:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 return (double) left >= (double) right;
             case LESS:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 return (double) left < (double) right;
             case LESS_EQUAL:
-                checkNumbers(expr.op, left, right);
+                checkNumbers(op, left, right);
                 return (double) left <= (double) right;
             case EQUAL_EQUAL:
                 return isEqual(left, right);
@@ -194,8 +334,121 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
         return null;
     }
 
+    // An expression is numeric when it can only evaluate to a number or
+    // fail: number literals, unary minus, -, * and /, and + on two numeric
+    // operands. Its value never needs to be boxed until it is stored.
+    static boolean isNumeric(Expr expr) {
+        if (expr instanceof Expr.Binary) {
+            return ((Expr.Binary) expr).numeric;
+        }
+        if (expr instanceof Expr.Unary) {
+            return ((Expr.Unary) expr).op.type == TokenType.MINUS;
+        }
+        if (expr instanceof Expr.Grouping) {
+            return isNumeric(((Expr.Grouping) expr).expression);
+        }
+        return expr instanceof Expr.Literal && ((Expr.Literal) expr).val instanceof Double;
+    }
+
+    private double evaluateNumber(Expr expr) {
+        if (expr instanceof Expr.Binary) {
+            Expr.Binary binary = (Expr.Binary) expr;
+            if (binary.op.type == TokenType.COMMA) {
+                evaluate(binary.left);
+                return evaluateNumber(binary.right);
+            }
+            return applyNumbers(binary);
+        }
+        if (expr instanceof Expr.Literal) {
+            return (double) ((Expr.Literal) expr).val;
+        }
+        if (expr instanceof Expr.Grouping) {
+            return evaluateNumber(((Expr.Grouping) expr).expression);
+        }
+        Expr.Unary unary = (Expr.Unary) expr;
+        if (isNumeric(unary.right)) {
+            return -evaluateNumber(unary.right);
+        }
+        Object right = evaluate(unary.right);
+        checkNumber(unary.op, right);
+        return -(double) right;
+    }
+
+    // Applies an operator that needs two numbers. Numeric operands are
+    // evaluated unboxed; the others are checked once both sides have run.
+    // Comparisons give 1 or 0.
+    private double applyNumbers(Expr.Binary expr) {
+        double left = 0, right = 0;
+        boolean numbers = true;
+        if (expr.leftNumeric) {
+            left = evaluateNumber(expr.left);
+        } else {
+            Object value = evaluate(expr.left);
+            numbers = value instanceof Double;
+            if (numbers) {
+                left = (double) value;
+            }
+        }
+        if (expr.rightNumeric) {
+            right = evaluateNumber(expr.right);
+        } else {
+            Object value = evaluate(expr.right);
+            if (value instanceof Double) {
+                right = (double) value;
+            } else {
+                numbers = false;
+            }
+        }
+        if (!numbers) {
+            throw new RuntimeError(expr.op, "Operand must be numbers");
+        }
+
+        switch (expr.op.type) {
+            case PLUS:
+                return left + right;
+            case MINUS:
+                return left - right;
+            case STAR:
+                return left * right;
+            case SLASH:
+                if (right == 0) {
+                    throw new RuntimeError(expr.op, "Cannot divide by zero.");
+                }
+                return left / right;
+            case GREATER:
+                return left > right ? 1 : 0;
+            case GREATER_EQUAL:
+                return left >= right ? 1 : 0;
+            case LESS:
+                return left < right ? 1 : 0;
+            default:
+                return left <= right ? 1 : 0;
+        }
+    }
+
+    // + with one numeric side: the other side may still be a string.
+    private Object addNumber(Expr.Binary expr) {
+        boolean leftNumeric = expr.leftNumeric;
+        double number;
+        Object other;
+        if (leftNumeric) {
+            number = evaluateNumber(expr.left);
+            other = evaluate(expr.right);
+        } else {
+            other = evaluate(expr.left);
+            number = evaluateNumber(expr.right);
+        }
+        if (other instanceof Double) {
+            return leftNumeric ? number + (double) other : (double) other + number;
+        }
+        return leftNumeric ? binary(expr.op, number, other) : binary(expr.op, other, number);
+    }
+
     @Override
     public Object visitUnary(Expr.Unary expr) {
+        if (expr.op.type == TokenType.MINUS && isNumeric(expr.right)) {
+            return -evaluateNumber(expr.right);
+        }
         Object right = evaluate(expr.right);
         switch (expr.op.type) {
             case MINUS:
@@ -226,7 +479,13 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
     
     @Override
     public Object visitVarExpr(Expr.Variable expr) {
-        return environment.get(expr.name);
+        if (expr.depth < 0) {
+            throw undefined(expr.name);
+        }
+        if (expr.global) {
+            return globals.get(expr.slot);
+        }
+        return environment.getAt(expr.depth, expr.slot);
     }
 
 
@@ -238,19 +497,79 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
 
     @Override
     public Object visitCallExpr(Expr.Call expr) {
-        Object callee = evaluate(expr.callee);
+        CallCache cache = expr.cache;
+        if (cache == null) {
+            cache = expr.cache = CallCache.create(expr.paren);
+        }
+        SimplfCallable function = cache.pinned(globals);
+        if (function == null) {
+            Object callee = evaluate(expr.callee);
+            function = cache.lookup(callee);
+            if (function == null) {
+                function = callable(callee, expr.paren, expr.args.size());
+                cache.add(function);
+            }
+            if (expr.callee instanceof Expr.Variable && ((Expr.Variable) expr.callee).global) {
+                Globals.Assumption assumption = globals.cell(((Expr.Variable) expr.callee).slot).assumption();
+                if (assumption != null && assumption.isValid()) {
+                    cache.pin(globals, assumption, function);
+                }
+            }
+        }
+        List<Expr> args = expr.args;
+        if (expr.tail) {
+            return tailCall(function, evaluate(args), expr.dropsResult);
+        }
 
-        if (!(callee instanceof SimplfCallable)) {
-            throw new RuntimeError(expr.paren, "Can only call functions.");
+        // Arguments are evaluated left to right, as Java evaluates them here.
+        switch (args.size()) {
+            case 0:
+                return function.call0(this);
+            case 1:
+                return function.call1(this, evaluate(args.get(0)));
+            case 2:
+                return function.call2(this, evaluate(args.get(0)), evaluate(args.get(1)));
+            case 3:
+                return function.call3(this, evaluate(args.get(0)), evaluate(args.get(1)), evaluate(args.get(2)));
+            case 4:
+                return function.call4(this, evaluate(args.get(0)), evaluate(args.get(1)), evaluate(args.get(2)),
+                    evaluate(args.get(3)));
+            default:
+                return function.call(this, evaluate(args));
         }
+    }
 
-        List<Object> arguments = new java.util.ArrayList<>();
-        for (Expr argument : expr.args) {
-            arguments.add(evaluate(argument));
+    private Object[] evaluate(List<Expr> exprs) {
+        Object[] values = new Object[exprs.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = evaluate(exprs.get(i));
         }
+        return values;
+    }
 
+    static SimplfCallable callable(Object callee, Token paren, int argCount) {
+        if (!(callee instanceof SimplfCallable)) {
+            throw new RuntimeError(paren, "Can only call functions.");
+        }
         SimplfCallable function = (SimplfCallable) callee;
-        return function.call(this, arguments);
+        if (function.arity() != argCount) {
+            throw new RuntimeError(paren, "Expected " + function.arity() + " arguments but got " + argCount + ".");
+        }
+        return function;
+    }
+
+    Object tailCall(SimplfCallable function, Object[] args, boolean dropsResult) {
+        if (function instanceof SimplfFunction) {
+            tailCall = new TailCall((SimplfFunction) function, args, dropsResult);
+            return null;
+        }
+        return function.call(this, args);
+    }
+
+    TailCall takeTailCall() {
+        TailCall call = tailCall;
+        tailCall = null;
+        return call;
     }
 
 
@@ -266,7 +585,14 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
     @Override
     public Object visitAssignExpr(Expr.Assign expr) {
         Object value = evaluate(expr.value);
-        environment.assign(expr.name, value);
+        if (expr.depth < 0) {
+            throw undefined(expr.name);
+        }
+        if (expr.global) {
+            globals.cell(expr.slot).assign(value);
+        } else {
+            environment.assignAt(expr.depth, expr.slot, value);
+        }
         return value;
     }
 
@@ -283,7 +609,7 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
         return stmt.accept(this);
     }
 
-    private boolean isTruthy(Object object) {
+    static boolean isTruthy(Object object) {
         if (object == null) {
             return false;
         }
@@ -293,33 +619,35 @@ class Interpreter implements Expr.Visitor<Object>, Stmt.Visitor<Object> {
         return true;
     }
 
-    private boolean isEqual(Object a, Object b) {
+    static boolean isEqual(Object a, Object b) {
         if (a == null)
             return b == null;
+        if (a instanceof Rope || b instanceof Rope)
+            return Rope.isString(a) && Rope.isString(b) && a.toString().equals(b.toString());
         return a.equals(b);
     }
 
-    private void checkNumber(Token op, Object object) {
+    static RuntimeError undefined(Token name) {
+        return new RuntimeError(name, "Undefined variable '" + name.lexeme + "'");
+    }
+
+    static void checkNumber(Token op, Object object) {
         if (object instanceof Double)
             return;
         throw new RuntimeError(op, "Operand must be a number");
     }
 
-    private void checkNumbers(Token op, Object a, Object b) {
+    static void checkNumbers(Token op, Object a, Object b) {
         if (a instanceof Double && b instanceof Double)
             return;
         throw new RuntimeError(op, "Operand must be numbers");
     }
 
-    private String stringify(Object object) {
+    static String stringify(Object object) {
         if (object == null)
             return "nil";
         if (object instanceof Double) {
-            String num = object.toString();
-            if (num.endsWith(".0")) {
-                num = num.substring(0, num.length() - 2);
-            }
-            return num;
+            return Numbers.toString((double) object);
         }
         return object.toString();
     }
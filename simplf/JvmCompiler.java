@@ -0,0 +1,766 @@
+package simplf;
+
+import static simplf.ClassFile.*;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import simplf.Expr.Assign;
+import simplf.Expr.Binary;
+import simplf.Expr.Call;
+import simplf.Expr.Conditional;
+import simplf.Expr.Grouping;
+import simplf.Expr.Literal;
+import simplf.Expr.Logical;
+import simplf.Expr.Unary;
+import simplf.Expr.Variable;
+import simplf.Stmt.Block;
+import simplf.Stmt.CountedLoop;
+import simplf.Stmt.Expression;
+import simplf.Stmt.For;
+import simplf.Stmt.Function;
+import simplf.Stmt.If;
+import simplf.Stmt.Print;
+import simplf.Stmt.Var;
+import simplf.Stmt.While;
+
+// Translates the body of a hot SimplfFunction into a JVM class, defined as a
+// hidden class next to this one, so HotSpot can compile SimPL-F loops like
+// Java code.
+//
+// Frames that belong to the function itself (its parameters and the locals
+// of its blocks) become JVM locals; variables further out are read through
+// the closure Environment, or the interpreter's Globals. A local keeps an unboxed double when every value
+// stored into it is provably a number: the compiler starts by assuming that
+// of every non-parameter local and generates the body again each time an
+// assumption is refuted. Everything that cannot be proven goes through the
+// same helpers the interpreter uses, so errors and their tokens are
+// unchanged. Bodies that declare functions are left to the interpreter,
+// because a nested closure needs the frame as a real Environment.
+final class JvmCompiler implements Expr.Visitor<Void>, Stmt.Visitor<Void> {
+    static final int THRESHOLD = 1000;
+
+    // args is the frame SimplfFunction filled with the arguments.
+    interface Body {
+        Object call(Interpreter interpreter, Environment closure, Environment args);
+    }
+
+    private static final String SELF = "simplf/CompiledBody";
+    private static final String BODY = "simplf/JvmCompiler$Body";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String OBJECT_DESC = "Ljava/lang/Object;";
+    private static final String TOKEN = "simplf/Token";
+    private static final String TOKEN_DESC = "Lsimplf/Token;";
+    private static final String COMPILER = "simplf/JvmCompiler";
+    private static final String INTERPRETER = "simplf/Interpreter";
+    private static final String ENVIRONMENT = "simplf/Environment";
+    private static final String CALL_DESC = "(Lsimplf/Interpreter;Lsimplf/Environment;Lsimplf/Environment;)Ljava/lang/Object;";
+
+    private static final int THIS = 0, INTERPRETER_LOCAL = 1, CLOSURE = 2, ARGS = 3, FIRST_LOCAL = 4;
+
+    // JVM locals of one SimPL-F frame. Every slot gets two so a slot can
+    // change type between attempts without moving the others.
+    private static class Frame {
+        final int base;
+        final boolean[] isDouble;
+
+        Frame(int base, int size) {
+            this.base = base;
+            this.isDouble = new boolean[size];
+            java.util.Arrays.fill(isDouble, true);
+        }
+
+        int local(int slot) {
+            return base + 2 * slot;
+        }
+    }
+
+    // Thrown when a local turns out not to be a number; generation restarts.
+    private static class Retype extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        Retype() {
+            super(null, null, false, false);
+        }
+    }
+
+    private final Function function;
+    private final Map<Stmt, Frame> frames = new IdentityHashMap<>();
+    private int nextLocal = FIRST_LOCAL;
+
+    private final List<Object> constants = new ArrayList<>();
+    private final Map<Object, Integer> constantIndex = new IdentityHashMap<>();
+    private final List<Frame> scopes = new ArrayList<>();
+    private ClassFile classFile;
+    private ClassFile.Code code;
+
+    private JvmCompiler(Function function) {
+        this.function = function;
+    }
+
+    // Returns null when the body uses something this compiler leaves to the
+    // interpreter.
+    static Body compile(Function function) {
+        try {
+            return new JvmCompiler(function).define();
+        } catch (UnsupportedOperationException | ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private Body define() throws ReflectiveOperationException {
+        byte[] bytes;
+        while (true) {
+            try {
+                bytes = generate();
+                break;
+            } catch (Retype retype) {
+                constants.clear();
+                constantIndex.clear();
+                scopes.clear();
+            }
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+        try {
+            return (Body) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class, Object[].class))
+                    .invoke(constants.toArray());
+        } catch (ReflectiveOperationException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private byte[] generate() {
+        classFile = new ClassFile(SELF, OBJECT, BODY);
+        classFile.field(ACC_PRIVATE | ACC_FINAL, "k", "[Ljava/lang/Object;");
+
+        ClassFile.Code init = classFile.method(0, "<init>", "([Ljava/lang/Object;)V");
+        init.local(ALOAD, THIS);
+        init.invoke(INVOKESPECIAL, OBJECT, "<init>", "()V");
+        init.local(ALOAD, THIS);
+        init.local(ALOAD, 1);
+        init.field(PUTFIELD, SELF, "k", "[Ljava/lang/Object;");
+        init.op(RETURN, 0);
+        init.maxLocals(2);
+
+        ClassFile.Code method = classFile.method(ACC_PUBLIC, "call", CALL_DESC);
+        code = classFile.fragment();
+        Frame frame = frame(function, function.frameSize);
+        for (int i = 0; i < function.params.size(); i++) {
+            frame.isDouble[i] = false;
+        }
+        scopes.add(frame);
+        List<Stmt> body = function.body;
+        for (int i = 0; i < body.size(); i++) {
+            Stmt stmt = body.get(i);
+            if (i == body.size() - 1 && stmt instanceof Expression) {
+                object(((Expression) stmt).expr);
+                code.op(ARETURN, -1);
+                break;
+            }
+            stmt.accept(this);
+            if (i == body.size() - 1) {
+                code.op(ACONST_NULL, 1);
+                code.op(ARETURN, -1);
+            }
+        }
+        if (body.isEmpty()) {
+            code.op(ACONST_NULL, 1);
+            code.op(ARETURN, -1);
+        }
+
+        // Locals start out as nil or 0, then the parameters are unpacked.
+        for (Frame f : frames.values()) {
+            for (int slot = 0; slot < f.isDouble.length; slot++) {
+                if (f.isDouble[slot]) {
+                    method.constant(0.0);
+                    method.local(DSTORE, f.local(slot));
+                } else {
+                    method.op(ACONST_NULL, 1);
+                    method.local(ASTORE, f.local(slot));
+                }
+            }
+        }
+        for (int i = 0; i < function.params.size(); i++) {
+            method.local(ALOAD, ARGS);
+            method.constant(0);
+            method.constant(i);
+            method.invoke(INVOKEVIRTUAL, ENVIRONMENT, "getAt", "(II)" + OBJECT_DESC);
+            method.local(ASTORE, frame.local(i));
+        }
+        method.append(code);
+        method.maxLocals(nextLocal);
+        return classFile.toBytes();
+    }
+
+    private Frame frame(Stmt owner, int size) {
+        Frame frame = frames.get(owner);
+        if (frame == null) {
+            frame = new Frame(nextLocal, size);
+            nextLocal += 2 * size;
+            if (nextLocal > 0xFFFF) {
+                throw new UnsupportedOperationException("Too many locals.");
+            }
+            frames.put(owner, frame);
+        }
+        return frame;
+    }
+
+    // The function-local frame a resolved reference points into, or null if
+    // it is read through the closure.
+    private Frame scope(int depth) {
+        return depth < scopes.size() ? scopes.get(scopes.size() - 1 - depth) : null;
+    }
+
+    private void demote(Frame frame, int slot) {
+        frame.isDouble[slot] = false;
+        throw new Retype();
+    }
+
+    // Type proofs
+
+    private boolean isDouble(Expr expr) {
+        if (expr instanceof Literal) {
+            return ((Literal) expr).val instanceof Double;
+        }
+        if (expr instanceof Grouping) {
+            return isDouble(((Grouping) expr).expression);
+        }
+        if (expr instanceof Variable) {
+            Variable var = (Variable) expr;
+            Frame frame = var.depth < 0 ? null : scope(var.depth);
+            return frame != null && frame.isDouble[var.slot];
+        }
+        if (expr instanceof Assign) {
+            Assign assign = (Assign) expr;
+            Frame frame = assign.depth < 0 ? null : scope(assign.depth);
+            return frame != null && frame.isDouble[assign.slot];
+        }
+        if (expr instanceof Unary) {
+            Unary unary = (Unary) expr;
+            return unary.op.type == TokenType.MINUS && isDouble(unary.right);
+        }
+        if (expr instanceof Binary) {
+            Binary binary = (Binary) expr;
+            switch (binary.op.type) {
+                case PLUS:
+                case MINUS:
+                case STAR:
+                case SLASH:
+                    return isDouble(binary.left) && isDouble(binary.right);
+                case COMMA:
+                    return isDouble(binary.right);
+                default:
+                    return false;
+            }
+        }
+        if (expr instanceof Conditional) {
+            Conditional conditional = (Conditional) expr;
+            return isDouble(conditional.thenBranch) && isDouble(conditional.elseBranch);
+        }
+        return false;
+    }
+
+    private static boolean isComparison(Expr expr) {
+        if (!(expr instanceof Binary)) {
+            return false;
+        }
+        switch (((Binary) expr).op.type) {
+            case GREATER:
+            case GREATER_EQUAL:
+            case LESS:
+            case LESS_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Code generation. The visitor methods leave an Object on the stack;
+    // number() leaves a double and condition() jumps when the value is falsey.
+
+    private void object(Expr expr) {
+        expr.accept(this);
+    }
+
+    private void number(Expr expr) {
+        if (expr instanceof Literal) {
+            code.constant((double) ((Literal) expr).val);
+        } else if (expr instanceof Grouping) {
+            number(((Grouping) expr).expression);
+        } else if (expr instanceof Variable) {
+            Variable var = (Variable) expr;
+            code.local(DLOAD, scope(var.depth).local(var.slot));
+        } else if (expr instanceof Assign) {
+            Assign assign = (Assign) expr;
+            number(assign.value);
+            code.op(DUP2, 2);
+            code.local(DSTORE, scope(assign.depth).local(assign.slot));
+        } else if (expr instanceof Unary) {
+            number(((Unary) expr).right);
+            code.op(DNEG, 0);
+        } else if (expr instanceof Conditional) {
+            Conditional conditional = (Conditional) expr;
+            ClassFile.Label otherwise = new ClassFile.Label(), end = new ClassFile.Label();
+            condition(conditional.cond, otherwise);
+            number(conditional.thenBranch);
+            code.jump(GOTO, end);
+            code.mark(otherwise);
+            number(conditional.elseBranch);
+            code.mark(end);
+        } else {
+            Binary binary = (Binary) expr;
+            if (binary.op.type == TokenType.COMMA) {
+                effect(binary.left);
+                number(binary.right);
+                return;
+            }
+            number(binary.left);
+            number(binary.right);
+            switch (binary.op.type) {
+                case PLUS:
+                    code.op(DADD, -2);
+                    break;
+                case MINUS:
+                    code.op(DSUB, -2);
+                    break;
+                case STAR:
+                    code.op(DMUL, -2);
+                    break;
+                default:
+                    token(binary.op);
+                    code.invoke(INVOKESTATIC, COMPILER, "divide", "(DD" + TOKEN_DESC + ")D");
+                    break;
+            }
+        }
+    }
+
+    private void condition(Expr expr, ClassFile.Label ifFalse) {
+        while (expr instanceof Grouping) {
+            expr = ((Grouping) expr).expression;
+        }
+        if (isComparison(expr)) {
+            Binary binary = (Binary) expr;
+            if (isDouble(binary.left) && isDouble(binary.right)) {
+                number(binary.left);
+                number(binary.right);
+                // NaN compares false, so pick the dcmp variant that sends it
+                // to ifFalse.
+                switch (binary.op.type) {
+                    case GREATER:
+                        code.op(DCMPL, -3);
+                        code.jump(IFLE, ifFalse);
+                        break;
+                    case GREATER_EQUAL:
+                        code.op(DCMPL, -3);
+                        code.jump(IFLT, ifFalse);
+                        break;
+                    case LESS:
+                        code.op(DCMPG, -3);
+                        code.jump(IFGE, ifFalse);
+                        break;
+                    default:
+                        code.op(DCMPG, -3);
+                        code.jump(IFGT, ifFalse);
+                        break;
+                }
+                return;
+            }
+        }
+        object(expr);
+        code.invoke(INVOKESTATIC, INTERPRETER, "isTruthy", "(" + OBJECT_DESC + ")Z");
+        code.jump(IFEQ, ifFalse);
+    }
+
+    // Evaluates an expression statement and drops its value.
+    private void effect(Expr expr) {
+        if (expr instanceof Assign) {
+            Assign assign = (Assign) expr;
+            Frame frame = assign.depth < 0 ? null : scope(assign.depth);
+            if (frame != null) {
+                store(frame, assign.slot, assign.value);
+                return;
+            }
+        }
+        if (isDouble(expr)) {
+            number(expr);
+            code.op(POP2, -2);
+        } else {
+            object(expr);
+            code.op(POP, -1);
+        }
+    }
+
+    private void store(Frame frame, int slot, Expr value) {
+        if (frame.isDouble[slot]) {
+            if (!isDouble(value)) {
+                demote(frame, slot);
+            }
+            number(value);
+            code.local(DSTORE, frame.local(slot));
+        } else {
+            object(value);
+            code.local(ASTORE, frame.local(slot));
+        }
+    }
+
+    private void box() {
+        code.invoke(INVOKESTATIC, "java/lang/Double", "valueOf", "(D)Ljava/lang/Double;");
+    }
+
+    private void constant(Object value) {
+        Integer index = constantIndex.get(value);
+        if (index == null) {
+            index = constants.size();
+            constants.add(value);
+            constantIndex.put(value, index);
+        }
+        code.local(ALOAD, THIS);
+        code.field(GETFIELD, SELF, "k", "[Ljava/lang/Object;");
+        code.constant(index);
+        code.op(AALOAD, -1);
+    }
+
+    private void token(Token token) {
+        constant(token);
+        code.type(CHECKCAST, TOKEN);
+    }
+
+    @Override
+    public Void visitPrintStmt(Print stmt) {
+        object(stmt.expr);
+        code.invoke(INVOKESTATIC, INTERPRETER, "print", "(" + OBJECT_DESC + ")V");
+        return null;
+    }
+
+    @Override
+    public Void visitExprStmt(Expression stmt) {
+        effect(stmt.expr);
+        return null;
+    }
+
+    @Override
+    public Void visitVarStmt(Var stmt) {
+        Frame frame = scopes.get(scopes.size() - 1);
+        if (stmt.initializer == null) {
+            if (frame.isDouble[stmt.slot]) {
+                demote(frame, stmt.slot);
+            }
+            code.op(ACONST_NULL, 1);
+            code.local(ASTORE, frame.local(stmt.slot));
+        } else {
+            store(frame, stmt.slot, stmt.initializer);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitBlockStmt(Block stmt) {
+        if (stmt.merged) {
+            for (Stmt s : stmt.statements) {
+                s.accept(this);
+            }
+            return null;
+        }
+        scopes.add(frame(stmt, stmt.frameSize));
+        for (Stmt s : stmt.statements) {
+            s.accept(this);
+        }
+        scopes.remove(scopes.size() - 1);
+        return null;
+    }
+
+    @Override
+    public Void visitIfStmt(If stmt) {
+        ClassFile.Label otherwise = new ClassFile.Label();
+        condition(stmt.cond, otherwise);
+        stmt.thenBranch.accept(this);
+        if (stmt.elseBranch == null) {
+            code.mark(otherwise);
+        } else {
+            ClassFile.Label end = new ClassFile.Label();
+            code.jump(GOTO, end);
+            code.mark(otherwise);
+            stmt.elseBranch.accept(this);
+            code.mark(end);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitWhileStmt(While stmt) {
+        ClassFile.Label top = new ClassFile.Label(), exit = new ClassFile.Label();
+        code.mark(top);
+        condition(stmt.cond, exit);
+        stmt.body.accept(this);
+        code.jump(GOTO, top);
+        code.mark(exit);
+        return null;
+    }
+
+    @Override
+    public Void visitCountedLoopStmt(CountedLoop stmt) {
+        ClassFile.Label top = new ClassFile.Label(), exit = new ClassFile.Label();
+        effect(stmt.init);
+        code.mark(top);
+        condition(stmt.cond, exit);
+        stmt.body.accept(this);
+        effect(stmt.incr);
+        code.jump(GOTO, top);
+        code.mark(exit);
+        return null;
+    }
+
+    @Override
+    public Void visitForStmt(For stmt) {
+        throw new UnsupportedOperationException("For loops are not compiled.");
+    }
+
+    @Override
+    public Void visitFunctionStmt(Function stmt) {
+        throw new UnsupportedOperationException("Nested functions are not compiled.");
+    }
+
+    @Override
+    public Void visitBinary(Binary expr) {
+        if (isDouble(expr)) {
+            number(expr);
+            box();
+            return null;
+        }
+        if (isComparison(expr) && isDouble(expr.left) && isDouble(expr.right)) {
+            ClassFile.Label otherwise = new ClassFile.Label(), end = new ClassFile.Label();
+            condition(expr, otherwise);
+            code.field(GETSTATIC, "java/lang/Boolean", "TRUE", "Ljava/lang/Boolean;");
+            code.jump(GOTO, end);
+            code.mark(otherwise);
+            code.field(GETSTATIC, "java/lang/Boolean", "FALSE", "Ljava/lang/Boolean;");
+            code.mark(end);
+            return null;
+        }
+        if (expr.op.type == TokenType.COMMA) {
+            effect(expr.left);
+            object(expr.right);
+            return null;
+        }
+        token(expr.op);
+        object(expr.left);
+        object(expr.right);
+        code.invoke(INVOKESTATIC, INTERPRETER, "binary", "(" + TOKEN_DESC + OBJECT_DESC + OBJECT_DESC + ")" + OBJECT_DESC);
+        return null;
+    }
+
+    @Override
+    public Void visitUnary(Unary expr) {
+        switch (expr.op.type) {
+            case MINUS:
+                if (isDouble(expr.right)) {
+                    number(expr);
+                    box();
+                } else {
+                    token(expr.op);
+                    object(expr.right);
+                    code.invoke(INVOKESTATIC, COMPILER, "negate", "(" + TOKEN_DESC + OBJECT_DESC + ")" + OBJECT_DESC);
+                }
+                break;
+            case BANG:
+                object(expr.right);
+                code.invoke(INVOKESTATIC, INTERPRETER, "isTruthy", "(" + OBJECT_DESC + ")Z");
+                code.constant(1);
+                code.op(IXOR, -1);
+                code.invoke(INVOKESTATIC, "java/lang/Boolean", "valueOf", "(Z)Ljava/lang/Boolean;");
+                break;
+            default:
+                object(expr.right);
+                code.op(POP, -1);
+                code.op(ACONST_NULL, 1);
+                break;
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitLiteral(Literal expr) {
+        Object val = expr.val;
+        if (val == null) {
+            code.op(ACONST_NULL, 1);
+        } else if (val instanceof String) {
+            code.constant((String) val);
+        } else if (val instanceof Boolean) {
+            code.field(GETSTATIC, "java/lang/Boolean", (boolean) val ? "TRUE" : "FALSE", "Ljava/lang/Boolean;");
+        } else {
+            constant(val);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitGrouping(Grouping expr) {
+        return expr.expression.accept(this);
+    }
+
+    @Override
+    public Void visitVarExpr(Variable expr) {
+        if (expr.depth < 0) {
+            token(expr.name);
+            code.invoke(INVOKESTATIC, COMPILER, "undefined", "(" + TOKEN_DESC + ")" + OBJECT_DESC);
+            return null;
+        }
+        Frame frame = scope(expr.depth);
+        if (frame == null && expr.global) {
+            code.local(ALOAD, INTERPRETER_LOCAL);
+            code.constant(expr.slot);
+            code.invoke(INVOKESTATIC, COMPILER, "global", "(L" + INTERPRETER + ";I)" + OBJECT_DESC);
+        } else if (frame == null) {
+            code.local(ALOAD, CLOSURE);
+            code.constant(expr.depth - scopes.size());
+            code.constant(expr.slot);
+            code.invoke(INVOKEVIRTUAL, ENVIRONMENT, "getAt", "(II)" + OBJECT_DESC);
+        } else if (frame.isDouble[expr.slot]) {
+            code.local(DLOAD, frame.local(expr.slot));
+            box();
+        } else {
+            code.local(ALOAD, frame.local(expr.slot));
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitAssignExpr(Assign expr) {
+        if (expr.depth < 0) {
+            object(expr.value);
+            code.op(POP, -1);
+            token(expr.name);
+            code.invoke(INVOKESTATIC, COMPILER, "undefined", "(" + TOKEN_DESC + ")" + OBJECT_DESC);
+            return null;
+        }
+        Frame frame = scope(expr.depth);
+        if (frame == null && expr.global) {
+            code.local(ALOAD, INTERPRETER_LOCAL);
+            code.constant(expr.slot);
+            object(expr.value);
+            code.invoke(INVOKESTATIC, COMPILER, "assignGlobal", "(L" + INTERPRETER + ";I" + OBJECT_DESC + ")" + OBJECT_DESC);
+        } else if (frame == null) {
+            code.local(ALOAD, CLOSURE);
+            code.constant(expr.depth - scopes.size());
+            code.constant(expr.slot);
+            object(expr.value);
+            code.invoke(INVOKESTATIC, COMPILER, "assign", "(L" + ENVIRONMENT + ";II" + OBJECT_DESC + ")" + OBJECT_DESC);
+        } else if (frame.isDouble[expr.slot]) {
+            if (!isDouble(expr.value)) {
+                demote(frame, expr.slot);
+            }
+            number(expr);
+            box();
+        } else {
+            object(expr.value);
+            code.op(DUP, 1);
+            code.local(ASTORE, frame.local(expr.slot));
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitLogicalExpr(Logical expr) {
+        ClassFile.Label end = new ClassFile.Label();
+        object(expr.left);
+        code.op(DUP, 1);
+        code.invoke(INVOKESTATIC, INTERPRETER, "isTruthy", "(" + OBJECT_DESC + ")Z");
+        code.jump(expr.op.type == TokenType.OR ? IFNE : IFEQ, end);
+        code.op(POP, -1);
+        object(expr.right);
+        code.mark(end);
+        return null;
+    }
+
+    @Override
+    public Void visitConditionalExpr(Conditional expr) {
+        ClassFile.Label otherwise = new ClassFile.Label(), end = new ClassFile.Label();
+        condition(expr.cond, otherwise);
+        object(expr.thenBranch);
+        code.jump(GOTO, end);
+        code.mark(otherwise);
+        object(expr.elseBranch);
+        code.mark(end);
+        return null;
+    }
+
+    @Override
+    public Void visitCallExpr(Call expr) {
+        if (expr.tail) {
+            code.local(ALOAD, INTERPRETER_LOCAL);
+        }
+        int argCount = expr.args.size();
+        object(expr.callee);
+        token(expr.paren);
+        code.constant(argCount);
+        code.invoke(INVOKESTATIC, INTERPRETER, "callable", "(" + OBJECT_DESC + TOKEN_DESC + "I)Lsimplf/SimplfCallable;");
+        if (!expr.tail) {
+            code.local(ALOAD, INTERPRETER_LOCAL);
+        }
+        if (expr.tail || argCount > 4) {
+            code.constant(argCount);
+            code.type(ANEWARRAY, OBJECT);
+            for (int i = 0; i < argCount; i++) {
+                code.op(DUP, 1);
+                code.constant(i);
+                object(expr.args.get(i));
+                code.op(AASTORE, -3);
+            }
+        } else {
+            for (Expr arg : expr.args) {
+                object(arg);
+            }
+        }
+        if (expr.tail) {
+            // Handed back to SimplfFunction like an interpreted tail call.
+            code.constant(expr.dropsResult ? 1 : 0);
+            code.invoke(INVOKEVIRTUAL, INTERPRETER, "tailCall", "(Lsimplf/SimplfCallable;[" + OBJECT_DESC + "Z)" + OBJECT_DESC);
+        } else if (argCount > 4) {
+            code.invoke(INVOKEINTERFACE, "simplf/SimplfCallable", "call", "(Lsimplf/Interpreter;[" + OBJECT_DESC + ")" + OBJECT_DESC);
+        } else {
+            String params = OBJECT_DESC.repeat(argCount);
+            code.invoke(INVOKEINTERFACE, "simplf/SimplfCallable", "call" + argCount, "(Lsimplf/Interpreter;" + params + ")" + OBJECT_DESC);
+        }
+        return null;
+    }
+
+    // Runtime support for compiled bodies.
+
+    static double divide(double left, double right, Token op) {
+        if (right == 0) {
+            throw new RuntimeError(op, "Cannot divide by zero.");
+        }
+        return left / right;
+    }
+
+    static Object negate(Token op, Object right) {
+        Interpreter.checkNumber(op, right);
+        return -(double) right;
+    }
+
+    static Object undefined(Token name) {
+        throw Interpreter.undefined(name);
+    }
+
+    static Object assign(Environment env, int depth, int slot, Object value) {
+        env.assignAt(depth, slot, value);
+        return value;
+    }
+
+    // Compiled bodies are shared by every Interpreter that runs the syntax
+    // tree, so globals are found through the one making the call.
+    static Object global(Interpreter interpreter, int slot) {
+        return interpreter.globals.get(slot);
+    }
+
+    static Object assignGlobal(Interpreter interpreter, int slot, Object value) {
+        interpreter.globals.cell(slot).assign(value);
+        return value;
+    }
+}
@@ -0,0 +1,51 @@
+package simplf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// A source file as Scanner sees it without reading it in: the characters
+// are the bytes of a read-only mapping of the file. That is exact for the
+// ASCII that SimPL-F tokens are made of. Lexemes are decoded with the
+// file's charset only when asked for, so string literals may hold any
+// text; columns after one on the same line count its bytes, not its
+// characters. A mapping is limited to 2 GB.
+final class MappedSource implements CharSequence {
+    private final ByteBuffer bytes;
+    private final Charset charset;
+
+    MappedSource(ByteBuffer bytes, Charset charset) {
+        this.bytes = bytes;
+        this.charset = charset;
+    }
+
+    static MappedSource map(Path path, Charset charset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return new MappedSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), charset);
+        }
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes.get(index) & 0xFF);
+    }
+
+    @Override
+    public String subSequence(int start, int end) {
+        return charset.decode(bytes.duplicate().position(start).limit(end)).toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length());
+    }
+}
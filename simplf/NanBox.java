@@ -0,0 +1,75 @@
+package simplf;
+
+// The 64-bit value encoding used by NanBoxCompiler. A number is its own
+// IEEE 754 bits, with every NaN collapsed to the canonical one by
+// doubleToLongBits. Nil, the booleans and references sit in the payload of a
+// NaN that encoding never produces, so testing for a number is one compare.
+// A REF value carries no pointer: the object lives next to it, in a frame's
+// refs array or in the engine's register.
+final class NanBox {
+    private static final long TAG_MASK = 0xFFFF000000000000L;
+    private static final long TAG = 0xFFFC000000000000L;
+
+    static final long NIL = TAG | 1;
+    static final long FALSE = TAG | 2;
+    static final long TRUE = TAG | 3;
+    static final long REF = TAG | 4;
+
+    private NanBox() {
+
+    }
+
+    static long number(double value) {
+        return Double.doubleToLongBits(value);
+    }
+
+    static boolean isNumber(long value) {
+        return (value & TAG_MASK) != TAG;
+    }
+
+    static double asNumber(long value) {
+        return Double.longBitsToDouble(value);
+    }
+
+    static long bool(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    static boolean isTruthy(long value) {
+        return value != NIL && value != FALSE;
+    }
+
+    // Long equality is Double.equals for numbers, as in Interpreter.isEqual.
+    static boolean isEqual(long a, Object aRef, long b, Object bRef) {
+        if (a == REF && b == REF) {
+            return Interpreter.isEqual(aRef, bRef);
+        }
+        return a == b;
+    }
+
+    static long encode(Object value) {
+        if (value == null) {
+            return NIL;
+        }
+        if (value instanceof Double) {
+            return number((double) value);
+        }
+        if (value instanceof Boolean) {
+            return bool((boolean) value);
+        }
+        return REF;
+    }
+
+    static Object decode(long value, Object ref) {
+        if (isNumber(value)) {
+            return asNumber(value);
+        }
+        if (value == NIL) {
+            return null;
+        }
+        if (value == REF) {
+            return ref;
+        }
+        return value == TRUE;
+    }
+}
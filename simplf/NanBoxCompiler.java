@@ -0,0 +1,567 @@
+package simplf;
+
+import java.util.Arrays;
+import java.util.List;
+
+import simplf.Expr.Assign;
+import simplf.Expr.Binary;
+import simplf.Expr.Call;
+import simplf.Expr.Conditional;
+import simplf.Expr.Grouping;
+import simplf.Expr.Literal;
+import simplf.Expr.Logical;
+import simplf.Expr.Unary;
+import simplf.Expr.Variable;
+import simplf.Stmt.Block;
+import simplf.Stmt.CountedLoop;
+import simplf.Stmt.Expression;
+import simplf.Stmt.For;
+import simplf.Stmt.Function;
+import simplf.Stmt.If;
+import simplf.Stmt.Print;
+import simplf.Stmt.Var;
+import simplf.Stmt.While;
+
+// ClosureCompiler with NaN-boxed values. Nodes evaluate to a long in the
+// NanBox encoding and frames keep their slots in a long[], so numbers,
+// booleans and nil are never heap objects. Strings and functions are REF
+// values: a frame keeps the object in a side refs array, allocated the first
+// time one is stored, and a node that evaluates to REF leaves the object in
+// `register` for whoever consumes the value next.
+class NanBoxCompiler implements Engine, Expr.Visitor<NanBoxCompiler.Node>, Stmt.Visitor<NanBoxCompiler.Node> {
+
+    interface Node {
+        long eval(Frame frame);
+    }
+
+    static final class Frame {
+        private static final long[] NO_SLOTS = new long[0];
+
+        private long[] slots;
+        private Object[] refs;
+        final Frame enclosing;
+
+        Frame(int size, Frame enclosing) {
+            this.slots = size == 0 ? NO_SLOTS : new long[size];
+            this.enclosing = enclosing;
+            Arrays.fill(slots, NanBox.NIL);
+        }
+
+        // Only the global frame grows; every other frame is sized by the resolver.
+        void ensureCapacity(int size) {
+            if (slots.length < size) {
+                int length = slots.length;
+                slots = Arrays.copyOf(slots, Math.max(size, length * 2));
+                Arrays.fill(slots, length, slots.length, NanBox.NIL);
+                if (refs != null) {
+                    refs = Arrays.copyOf(refs, slots.length);
+                }
+            }
+        }
+
+        void set(int slot, long value, Object ref) {
+            slots[slot] = value;
+            if (value == NanBox.REF) {
+                if (refs == null) {
+                    refs = new Object[slots.length];
+                }
+                refs[slot] = ref;
+            } else if (refs != null) {
+                refs[slot] = null;
+            }
+        }
+
+        Frame ancestor(int depth) {
+            Frame frame = this;
+            for (int i = 0; i < depth; i++) {
+                frame = frame.enclosing;
+            }
+            return frame;
+        }
+    }
+
+    final Frame globals = new Frame(0, null);
+    private final Resolver resolver = new Resolver();
+    private Object register;
+    private TailCall tailCall;
+
+    // A call in tail position, left for NanBoxFunction.invoke to run in
+    // place of the body that made it.
+    static final class TailCall {
+        final NanBoxFunction function;
+        final Frame frame;
+        final boolean dropsResult;
+
+        TailCall(NanBoxFunction function, Frame frame, boolean dropsResult) {
+            this.function = function;
+            this.frame = frame;
+            this.dropsResult = dropsResult;
+        }
+    }
+
+    @Override
+    public void interpret(List<Stmt> stmts) {
+        int resolvedGlobals = resolver.globalCount();
+        try {
+            for (Stmt stmt : stmts) {
+                resolver.resolve(stmt);
+                globals.ensureCapacity(resolver.globalCount());
+                compile(stmt).eval(globals);
+                resolvedGlobals = resolver.globalCount();
+            }
+        } catch (RuntimeError error) {
+            resolver.truncateGlobals(resolvedGlobals);
+            Simplf.runtimeError(error);
+        } finally {
+            register = null;
+        }
+    }
+
+    Node compile(Stmt stmt) {
+        return stmt.accept(this);
+    }
+
+    private Node compile(Expr expr) {
+        return expr.accept(this);
+    }
+
+    private Node[] compile(List<Stmt> stmts) {
+        Node[] nodes = new Node[stmts.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = compile(stmts.get(i));
+        }
+        return nodes;
+    }
+
+    // Encodes a value computed on objects, leaving it in the register if it
+    // is a reference.
+    private long value(Object object) {
+        long value = NanBox.encode(object);
+        if (value == NanBox.REF) {
+            register = object;
+        }
+        return value;
+    }
+
+    private static void checkNumber(Token op, long value) {
+        if (!NanBox.isNumber(value)) {
+            throw new RuntimeError(op, "Operand must be a number");
+        }
+    }
+
+    private static void checkNumbers(Token op, long a, long b) {
+        if (!NanBox.isNumber(a) || !NanBox.isNumber(b)) {
+            throw new RuntimeError(op, "Operand must be numbers");
+        }
+    }
+
+    @Override
+    public Node visitPrintStmt(Print stmt) {
+        Node expr = compile(stmt.expr);
+        return frame -> {
+            long value = expr.eval(frame);
+            if (NanBox.isNumber(value)) {
+                Output.println(NanBox.asNumber(value));
+            } else {
+                Interpreter.print(NanBox.decode(value, register));
+            }
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitExprStmt(Expression stmt) {
+        return compile(stmt.expr);
+    }
+
+    @Override
+    public Node visitVarStmt(Var stmt) {
+        int slot = stmt.slot;
+        if (stmt.initializer == null) {
+            return frame -> {
+                frame.set(slot, NanBox.NIL, null);
+                return NanBox.NIL;
+            };
+        }
+        Node initializer = compile(stmt.initializer);
+        return frame -> {
+            frame.set(slot, initializer.eval(frame), register);
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitBlockStmt(Block stmt) {
+        int frameSize = stmt.frameSize;
+        Node[] body = compile(stmt.statements);
+        if (stmt.merged) {
+            return frame -> {
+                for (Node s : body) {
+                    s.eval(frame);
+                }
+                return NanBox.NIL;
+            };
+        }
+        return frame -> {
+            Frame local = new Frame(frameSize, frame);
+            for (Node s : body) {
+                s.eval(local);
+            }
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitIfStmt(If stmt) {
+        Node cond = compile(stmt.cond);
+        Node thenBranch = compile(stmt.thenBranch);
+        if (stmt.elseBranch == null) {
+            return frame -> {
+                if (NanBox.isTruthy(cond.eval(frame))) {
+                    thenBranch.eval(frame);
+                }
+                return NanBox.NIL;
+            };
+        }
+        Node elseBranch = compile(stmt.elseBranch);
+        return frame -> {
+            if (NanBox.isTruthy(cond.eval(frame))) {
+                thenBranch.eval(frame);
+            } else {
+                elseBranch.eval(frame);
+            }
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitWhileStmt(While stmt) {
+        Node cond = compile(stmt.cond);
+        Node body = compile(stmt.body);
+        return frame -> {
+            while (NanBox.isTruthy(cond.eval(frame))) {
+                body.eval(frame);
+            }
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitCountedLoopStmt(CountedLoop stmt) {
+        Node init = compile(stmt.init);
+        Node cond = compile(stmt.cond);
+        Node body = compile(stmt.body);
+        Node incr = compile(stmt.incr);
+        return frame -> {
+            init.eval(frame);
+            while (NanBox.isTruthy(cond.eval(frame))) {
+                body.eval(frame);
+                incr.eval(frame);
+            }
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitForStmt(For stmt) {
+        throw new UnsupportedOperationException("For loops are not compiled.");
+    }
+
+    @Override
+    public Node visitFunctionStmt(Function stmt) {
+        int slot = stmt.slot;
+        Node[] body = compile(stmt.body);
+        return frame -> {
+            frame.set(slot, NanBox.REF, new NanBoxFunction(this, stmt, body, frame));
+            return NanBox.NIL;
+        };
+    }
+
+    @Override
+    public Node visitBinary(Binary expr) {
+        Node left = compile(expr.left);
+        Node right = compile(expr.right);
+        Token op = expr.op;
+        switch (op.type) {
+            case PLUS:
+                return frame -> {
+                    long l = left.eval(frame);
+                    Object lRef = register;
+                    long r = right.eval(frame);
+                    if (NanBox.isNumber(l) && NanBox.isNumber(r)) {
+                        return NanBox.number(NanBox.asNumber(l) + NanBox.asNumber(r));
+                    }
+                    return value(Interpreter.binary(op, NanBox.decode(l, lRef), NanBox.decode(r, register)));
+                };
+            case MINUS:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    return NanBox.number(NanBox.asNumber(l) - NanBox.asNumber(r));
+                };
+            case STAR:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    return NanBox.number(NanBox.asNumber(l) * NanBox.asNumber(r));
+                };
+            case SLASH:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    if (NanBox.asNumber(r) == 0) {
+                        throw new RuntimeError(op, "Cannot divide by zero.");
+                    }
+                    return NanBox.number(NanBox.asNumber(l) / NanBox.asNumber(r));
+                };
+            case GREATER:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    return NanBox.bool(NanBox.asNumber(l) > NanBox.asNumber(r));
+                };
+            case GREATER_EQUAL:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    return NanBox.bool(NanBox.asNumber(l) >= NanBox.asNumber(r));
+                };
+            case LESS:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    return NanBox.bool(NanBox.asNumber(l) < NanBox.asNumber(r));
+                };
+            case LESS_EQUAL:
+                return frame -> {
+                    long l = left.eval(frame);
+                    long r = right.eval(frame);
+                    checkNumbers(op, l, r);
+                    return NanBox.bool(NanBox.asNumber(l) <= NanBox.asNumber(r));
+                };
+            case EQUAL_EQUAL:
+                return frame -> {
+                    long l = left.eval(frame);
+                    Object lRef = register;
+                    long r = right.eval(frame);
+                    return NanBox.bool(NanBox.isEqual(l, lRef, r, register));
+                };
+            case BANG_EQUAL:
+                return frame -> {
+                    long l = left.eval(frame);
+                    Object lRef = register;
+                    long r = right.eval(frame);
+                    return NanBox.bool(!NanBox.isEqual(l, lRef, r, register));
+                };
+            case COMMA:
+                return frame -> {
+                    left.eval(frame);
+                    return right.eval(frame);
+                };
+            default:
+                return frame -> {
+                    left.eval(frame);
+                    right.eval(frame);
+                    return NanBox.NIL;
+                };
+        }
+    }
+
+    @Override
+    public Node visitUnary(Unary expr) {
+        Node right = compile(expr.right);
+        Token op = expr.op;
+        switch (op.type) {
+            case MINUS:
+                return frame -> {
+                    long r = right.eval(frame);
+                    checkNumber(op, r);
+                    return NanBox.number(-NanBox.asNumber(r));
+                };
+            case BANG:
+                return frame -> NanBox.bool(!NanBox.isTruthy(right.eval(frame)));
+            default:
+                return frame -> {
+                    right.eval(frame);
+                    return NanBox.NIL;
+                };
+        }
+    }
+
+    @Override
+    public Node visitLiteral(Literal expr) {
+        Object val = expr.val;
+        long value = NanBox.encode(val);
+        if (value == NanBox.REF) {
+            return frame -> {
+                register = val;
+                return NanBox.REF;
+            };
+        }
+        return frame -> value;
+    }
+
+    @Override
+    public Node visitGrouping(Grouping expr) {
+        return compile(expr.expression);
+    }
+
+    @Override
+    public Node visitVarExpr(Variable expr) {
+        Token name = expr.name;
+        int depth = expr.depth, slot = expr.slot;
+        if (depth < 0) {
+            return frame -> {
+                throw Interpreter.undefined(name);
+            };
+        }
+        if (depth == 0) {
+            return frame -> {
+                long value = frame.slots[slot];
+                if (value == NanBox.REF) {
+                    register = frame.refs[slot];
+                }
+                return value;
+            };
+        }
+        return frame -> {
+            Frame owner = frame.ancestor(depth);
+            long value = owner.slots[slot];
+            if (value == NanBox.REF) {
+                register = owner.refs[slot];
+            }
+            return value;
+        };
+    }
+
+    @Override
+    public Node visitAssignExpr(Assign expr) {
+        Node value = compile(expr.value);
+        Token name = expr.name;
+        int depth = expr.depth, slot = expr.slot;
+        if (depth < 0) {
+            return frame -> {
+                value.eval(frame);
+                throw Interpreter.undefined(name);
+            };
+        }
+        if (depth == 0) {
+            return frame -> {
+                long v = value.eval(frame);
+                frame.set(slot, v, register);
+                return v;
+            };
+        }
+        return frame -> {
+            long v = value.eval(frame);
+            frame.ancestor(depth).set(slot, v, register);
+            return v;
+        };
+    }
+
+    @Override
+    public Node visitLogicalExpr(Logical expr) {
+        Node left = compile(expr.left);
+        Node right = compile(expr.right);
+        if (expr.op.type == TokenType.OR) {
+            return frame -> {
+                long l = left.eval(frame);
+                return NanBox.isTruthy(l) ? l : right.eval(frame);
+            };
+        }
+        return frame -> {
+            long l = left.eval(frame);
+            return !NanBox.isTruthy(l) ? l : right.eval(frame);
+        };
+    }
+
+    @Override
+    public Node visitConditionalExpr(Conditional expr) {
+        Node cond = compile(expr.cond);
+        Node thenBranch = compile(expr.thenBranch);
+        Node elseBranch = compile(expr.elseBranch);
+        return frame -> NanBox.isTruthy(cond.eval(frame)) ? thenBranch.eval(frame) : elseBranch.eval(frame);
+    }
+
+    @Override
+    public Node visitCallExpr(Call expr) {
+        Node callee = compile(expr.callee);
+        Token paren = expr.paren;
+        Node[] args = new Node[expr.args.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = compile(expr.args.get(i));
+        }
+
+        // Arguments are evaluated straight into the callee's frame.
+        if (expr.tail) {
+            boolean dropsResult = expr.dropsResult;
+            return frame -> {
+                NanBoxFunction function = function(callee.eval(frame), paren, args.length);
+                Frame callFrame = function.newFrame();
+                for (int i = 0; i < args.length; i++) {
+                    callFrame.set(i, args[i].eval(frame), register);
+                }
+                tailCall = new TailCall(function, callFrame, dropsResult);
+                return NanBox.NIL;
+            };
+        }
+        switch (args.length) {
+            case 0:
+                return frame -> {
+                    NanBoxFunction function = function(callee.eval(frame), paren, 0);
+                    return function.invoke(function.newFrame());
+                };
+            case 1: {
+                Node arg0 = args[0];
+                return frame -> {
+                    NanBoxFunction function = function(callee.eval(frame), paren, 1);
+                    Frame callFrame = function.newFrame();
+                    callFrame.set(0, arg0.eval(frame), register);
+                    return function.invoke(callFrame);
+                };
+            }
+            case 2: {
+                Node arg0 = args[0], arg1 = args[1];
+                return frame -> {
+                    NanBoxFunction function = function(callee.eval(frame), paren, 2);
+                    Frame callFrame = function.newFrame();
+                    callFrame.set(0, arg0.eval(frame), register);
+                    callFrame.set(1, arg1.eval(frame), register);
+                    return function.invoke(callFrame);
+                };
+            }
+            default:
+                return frame -> {
+                    NanBoxFunction function = function(callee.eval(frame), paren, args.length);
+                    Frame callFrame = function.newFrame();
+                    for (int i = 0; i < args.length; i++) {
+                        callFrame.set(i, args[i].eval(frame), register);
+                    }
+                    return function.invoke(callFrame);
+                };
+        }
+    }
+
+    TailCall takeTailCall() {
+        TailCall call = tailCall;
+        tailCall = null;
+        return call;
+    }
+
+    private NanBoxFunction function(long callee, Token paren, int argCount) {
+        if (callee != NanBox.REF || !(register instanceof NanBoxFunction)) {
+            throw new RuntimeError(paren, "Can only call functions.");
+        }
+        NanBoxFunction function = (NanBoxFunction) register;
+        if (function.arity != argCount) {
+            throw new RuntimeError(paren, "Expected " + function.arity + " arguments but got " + argCount + ".");
+        }
+        return function;
+    }
+}
@@ -0,0 +1,57 @@
+package simplf;
+
+// A SimPL-F function produced by NanBoxCompiler.
+class NanBoxFunction {
+    final String name;
+    final int arity;
+    private final int frameSize;
+    private final NanBoxCompiler.Node[] body;
+    private final NanBoxCompiler.Frame closure;
+    private final NanBoxCompiler compiler;
+
+    NanBoxFunction(NanBoxCompiler compiler, Stmt.Function declaration, NanBoxCompiler.Node[] body,
+        NanBoxCompiler.Frame closure) {
+        this.compiler = compiler;
+        this.name = declaration.name.lexeme;
+        this.arity = declaration.params.size();
+        this.frameSize = declaration.frameSize;
+        this.body = body;
+        this.closure = closure;
+    }
+
+    NanBoxCompiler.Frame newFrame() {
+        return new NanBoxCompiler.Frame(frameSize, closure);
+    }
+
+    // Runs the body in a frame whose parameter slots are already filled. The
+    // result is the value of the last statement; if it is a reference, the
+    // last statement left it in the engine's register. Tail calls the body
+    // makes run here in a loop, as in SimplfFunction.
+    long invoke(NanBoxCompiler.Frame frame) {
+        NanBoxFunction function = this;
+        boolean dropResult = false;
+        while (true) {
+            long result = function.run(frame);
+            NanBoxCompiler.TailCall tail = compiler.takeTailCall();
+            if (tail == null) {
+                return dropResult ? NanBox.NIL : result;
+            }
+            function = tail.function;
+            frame = tail.frame;
+            dropResult |= tail.dropsResult;
+        }
+    }
+
+    private long run(NanBoxCompiler.Frame frame) {
+        long result = NanBox.NIL;
+        for (NanBoxCompiler.Node stmt : body) {
+            result = stmt.eval(frame);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "<fn " + name + ">";
+    }
+}
@@ -0,0 +1,36 @@
+package simplf;
+
+// Formats numbers the way stringify shows them: integral values below 1e7
+// as plain digits ("-0" for negative zero), everything else as
+// Double.toString does. Integral values are written digit by digit; the
+// rest go through StringBuilder.append(double), which formats in place.
+// Neither path builds a String to trim ".0" from.
+final class Numbers {
+    private static final double PLAIN_LIMIT = 1e7;
+
+    private Numbers() {
+
+    }
+
+    private static boolean isPlain(double value) {
+        return value == (int) value && Math.abs(value) < PLAIN_LIMIT;
+    }
+
+    private static boolean isNegativeZero(double value) {
+        return Double.doubleToRawLongBits(value) == Long.MIN_VALUE;
+    }
+
+    static String toString(double value) {
+        if (isPlain(value)) {
+            return isNegativeZero(value) ? "-0" : Integer.toString((int) value);
+        }
+        return Double.toString(value);
+    }
+
+    static StringBuilder append(StringBuilder sb, double value) {
+        if (isPlain(value)) {
+            return isNegativeZero(value) ? sb.append("-0") : sb.append((int) value);
+        }
+        return sb.append(value);
+    }
+}
@@ -0,0 +1,271 @@
+package simplf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simplf.Expr.Assign;
+import simplf.Expr.Binary;
+import simplf.Expr.Call;
+import simplf.Expr.Conditional;
+import simplf.Expr.Grouping;
+import simplf.Expr.Literal;
+import simplf.Expr.Logical;
+import simplf.Expr.Unary;
+import simplf.Expr.Variable;
+import simplf.Stmt.Block;
+import simplf.Stmt.CountedLoop;
+import simplf.Stmt.Expression;
+import simplf.Stmt.For;
+import simplf.Stmt.Function;
+import simplf.Stmt.If;
+import simplf.Stmt.Print;
+import simplf.Stmt.Var;
+import simplf.Stmt.While;
+
+/**
+ * Runs after Desugar and folds everything that can be computed from literals:
+ * arithmetic, comparisons, equality, `!`, unary minus, string concatenation,
+ * and `and`/`or`/`?:` with a constant deciding operand. Ifs and whiles with a
+ * constant condition lose their dead branch.
+ *
+ * An operation that would fail at runtime, such as `1 / 0` or `"a" - 1`, is
+ * left as it is so the error is still raised at its own token. A function
+ * whose last statement was an if still evaluates to nil.
+ */
+public class Optimizer implements Expr.Visitor<Expr>, Stmt.Visitor<Stmt> {
+
+    public Optimizer() {
+
+    }
+
+    public List<Stmt> optimize(List<Stmt> stmts) {
+        return optimize(stmts, false);
+    }
+
+    // Statements that only evaluate a literal do nothing and are dropped,
+    // except for the last statement of a function body, which is its result.
+    private List<Stmt> optimize(List<Stmt> stmts, boolean functionBody) {
+        ArrayList<Stmt> ret = new ArrayList<>();
+        for (int i = 0; i < stmts.size(); i++) {
+            Stmt old_stmt = stmts.get(i);
+            Stmt new_stmt = old_stmt.accept(this);
+            boolean last = i == stmts.size() - 1;
+            if (functionBody && last) {
+                ret.add(new_stmt);
+                if (old_stmt instanceof If && new_stmt instanceof Expression && !isNil(((Expression) new_stmt).expr)) {
+                    ret.add(nothing());
+                }
+            } else if (!(new_stmt instanceof Expression && ((Expression) new_stmt).expr instanceof Literal)) {
+                ret.add(new_stmt);
+            }
+        }
+        return ret;
+    }
+
+    private static Stmt nothing() {
+        return new Stmt.Expression(new Literal(null));
+    }
+
+    private static boolean isNil(Expr expr) {
+        return expr instanceof Literal && ((Literal) expr).val == null;
+    }
+
+    private static boolean isConstant(Expr expr) {
+        return expr instanceof Literal;
+    }
+
+    private static Object value(Expr expr) {
+        return ((Literal) expr).val;
+    }
+
+    @Override
+    public Stmt visitPrintStmt(Print stmt) {
+        return new Print(stmt.expr.accept(this));
+    }
+
+    @Override
+    public Stmt visitExprStmt(Expression stmt) {
+        return new Stmt.Expression(stmt.expr.accept(this));
+    }
+
+    @Override
+    public Stmt visitVarStmt(Var stmt) {
+        if (stmt.initializer == null) {
+            return stmt;
+        }
+        return new Var(stmt.name, stmt.initializer.accept(this));
+    }
+
+    @Override
+    public Stmt visitBlockStmt(Block stmt) {
+        return new Block(optimize(stmt.statements, false));
+    }
+
+    @Override
+    public Stmt visitIfStmt(If stmt) {
+        Expr cond = stmt.cond.accept(this);
+        if (isConstant(cond)) {
+            if (Interpreter.isTruthy(value(cond))) {
+                return stmt.thenBranch.accept(this);
+            }
+            return stmt.elseBranch == null ? nothing() : stmt.elseBranch.accept(this);
+        }
+
+        Stmt new_else = stmt.elseBranch == null ? null : stmt.elseBranch.accept(this);
+        return new If(cond, stmt.thenBranch.accept(this), new_else);
+    }
+
+    @Override
+    public Stmt visitWhileStmt(While stmt) {
+        Expr cond = stmt.cond.accept(this);
+        if (isConstant(cond) && !Interpreter.isTruthy(value(cond))) {
+            return nothing();
+        }
+        return new While(cond, stmt.body.accept(this));
+    }
+
+    @Override
+    public Stmt visitForStmt(For stmt) {
+        return stmt;
+    }
+
+    // The parts keep their shape: none of them can fold to a literal.
+    @Override
+    public Stmt visitCountedLoopStmt(CountedLoop stmt) {
+        return new CountedLoop((Assign) stmt.init.accept(this),
+            (Binary) stmt.cond.accept(this),
+            (Assign) stmt.incr.accept(this),
+            stmt.body.accept(this));
+    }
+
+    @Override
+    public Stmt visitFunctionStmt(Function stmt) {
+        return new Function(stmt.name, stmt.params, optimize(stmt.body, true));
+    }
+
+    @Override
+    public Expr visitBinary(Binary expr) {
+        Expr left = expr.left.accept(this);
+        Expr right = expr.right.accept(this);
+        Token op = expr.op;
+
+        if (op.type == TokenType.COMMA && isConstant(left)) {
+            return right;
+        }
+
+        // (x + "a") + "b" is x + "ab": a string operand makes + concatenate.
+        if (op.type == TokenType.PLUS && isConstant(right) && value(right) instanceof String
+                && left instanceof Binary && ((Binary) left).op.type == TokenType.PLUS
+                && isConstant(((Binary) left).right) && value(((Binary) left).right) instanceof String) {
+            Binary inner = (Binary) left;
+            return new Binary(inner.left, inner.op, new Literal((String) value(inner.right) + value(right)));
+        }
+
+        if (!isConstant(left) || !isConstant(right)) {
+            return new Binary(left, op, right);
+        }
+        Object l = value(left);
+        Object r = value(right);
+        boolean numbers = l instanceof Double && r instanceof Double;
+        switch (op.type) {
+            case PLUS:
+                if (l instanceof String || r instanceof String || numbers) {
+                    return new Literal(numbers ? Interpreter.binary(op, l, r) : Interpreter.stringify(l) + Interpreter.stringify(r));
+                }
+                break;
+            case SLASH:
+                if (numbers && (double) r != 0) {
+                    return new Literal(Interpreter.binary(op, l, r));
+                }
+                break;
+            case MINUS:
+            case STAR:
+            case GREATER:
+            case GREATER_EQUAL:
+            case LESS:
+            case LESS_EQUAL:
+                if (numbers) {
+                    return new Literal(Interpreter.binary(op, l, r));
+                }
+                break;
+            case EQUAL_EQUAL:
+            case BANG_EQUAL:
+                return new Literal(Interpreter.binary(op, l, r));
+            default:
+                break;
+        }
+        return new Binary(left, op, right);
+    }
+
+    @Override
+    public Expr visitUnary(Unary expr) {
+        Expr right = expr.right.accept(this);
+        if (isConstant(right)) {
+            Object r = value(right);
+            if (expr.op.type == TokenType.BANG) {
+                return new Literal(!Interpreter.isTruthy(r));
+            }
+            if (expr.op.type == TokenType.MINUS && r instanceof Double) {
+                return new Literal(-(double) r);
+            }
+        }
+        return new Unary(expr.op, right);
+    }
+
+    @Override
+    public Expr visitLiteral(Literal expr) {
+        return expr;
+    }
+
+    @Override
+    public Expr visitGrouping(Grouping expr) {
+        Expr inner = expr.expression.accept(this);
+        if (isConstant(inner)) {
+            return inner;
+        }
+        return new Grouping(inner);
+    }
+
+    @Override
+    public Expr visitVarExpr(Variable expr) {
+        return expr;
+    }
+
+    @Override
+    public Expr visitAssignExpr(Assign expr) {
+        return new Assign(expr.name, expr.value.accept(this));
+    }
+
+    @Override
+    public Expr visitLogicalExpr(Logical expr) {
+        Expr left = expr.left.accept(this);
+        Expr right = expr.right.accept(this);
+        if (isConstant(left)) {
+            boolean truthy = Interpreter.isTruthy(value(left));
+            boolean shortCircuits = expr.op.type == TokenType.OR ? truthy : !truthy;
+            return shortCircuits ? left : right;
+        }
+        return new Logical(left, expr.op, right);
+    }
+
+    @Override
+    public Expr visitConditionalExpr(Conditional expr) {
+        Expr cond = expr.cond.accept(this);
+        if (isConstant(cond)) {
+            return Interpreter.isTruthy(value(cond)) ? expr.thenBranch.accept(this) : expr.elseBranch.accept(this);
+        }
+        return new Conditional(cond,
+            expr.thenBranch.accept(this),
+            expr.elseBranch.accept(this));
+    }
+
+    @Override
+    public Expr visitCallExpr(Call expr) {
+        ArrayList<Expr> new_args = new ArrayList<>();
+        for (Expr arg : expr.args) {
+            new_args.add(arg.accept(this));
+        }
+
+        return new Call(expr.callee.accept(this), expr.paren, new_args);
+    }
+}
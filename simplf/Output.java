@@ -0,0 +1,152 @@
+package simplf;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// Where print statements write. Lines collect in a direct buffer that goes
+// to stdout's channel in one write when it holds flushBytes, when its oldest
+// output has waited flushMillis, and whenever stdout must be up to date:
+// before anything goes to stderr, before the REPL prompt, and on exit. A
+// daemon thread, started with the first output, enforces the wait, so a
+// program that prints and then computes for a while still shows what it
+// printed. A flushMillis of 0 writes every line as it is printed; that is
+// the default when stdout is a terminal, and batching is for files and
+// pipes. Like PrintStream, it never throws; a failed write drops the
+// buffered output.
+final class Output {
+    static final int DEFAULT_FLUSH_BYTES = 64 << 10;
+    static final long DEFAULT_FLUSH_MILLIS = 100;
+
+    private static final byte[] NEWLINE = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private static final Charset CHARSET = Charset.defaultCharset();
+
+    // Guarded by Output.class, which the flusher also waits on.
+    private static ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_FLUSH_BYTES);
+    private static WritableByteChannel channel = new FileOutputStream(FileDescriptor.out).getChannel();
+    private static long flushNanos = System.console() != null ? 0 : DEFAULT_FLUSH_MILLIS * 1_000_000;
+    // When the oldest output in the buffer was put there.
+    private static long pendingSince;
+    private static Thread flusher;
+
+    // Only used under the lock.
+    private static final StringBuilder scratch = new StringBuilder(32);
+
+    private Output() {
+
+    }
+
+    static synchronized void configure(int flushBytes, long flushMillis) {
+        flush();
+        buffer = ByteBuffer.allocateDirect(Math.max(flushBytes, 1));
+        flushNanos = flushMillis * 1_000_000;
+    }
+
+    // Sends later output to another channel and returns the current one.
+    static synchronized WritableByteChannel redirect(WritableByteChannel target) {
+        flush();
+        WritableByteChannel previous = channel;
+        channel = target;
+        return previous;
+    }
+
+    static synchronized void println(double value) {
+        scratch.setLength(0);
+        println(Numbers.append(scratch, value));
+    }
+
+    static synchronized void println(CharSequence text) {
+        print(text);
+        put(NEWLINE);
+        if (!buffer.hasRemaining() || flushNanos == 0) {
+            flush();
+        }
+    }
+
+    static synchronized void print(CharSequence text) {
+        if (buffer.position() == 0) {
+            pending();
+        }
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // Not ASCII: let the charset encode the rest.
+                put(text.subSequence(i, length).toString().getBytes(CHARSET));
+                return;
+            }
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) c);
+        }
+    }
+
+    private static void put(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            int count = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, count);
+            offset += count;
+        }
+    }
+
+    // The buffer is about to go from empty to holding output.
+    private static void pending() {
+        pendingSince = System.nanoTime();
+        if (flushNanos == 0) {
+            return;
+        }
+        if (flusher == null) {
+            flusher = new Thread(Output::runFlusher, "simplf-output");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            Output.class.notify();
+        }
+    }
+
+    // Writes the buffer once its oldest output has waited flushNanos, and
+    // sleeps while it is empty.
+    private static void runFlusher() {
+        synchronized (Output.class) {
+            for (;;) {
+                long waitMillis = 0;
+                if (buffer.position() > 0 && flushNanos > 0) {
+                    long due = pendingSince + flushNanos - System.nanoTime();
+                    if (due <= 0) {
+                        flush();
+                        continue;
+                    }
+                    waitMillis = (due + 999_999) / 1_000_000;
+                }
+                try {
+                    Output.class.wait(waitMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    static synchronized void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // Dropped, as PrintStream would.
+        }
+        buffer.clear();
+        // What a print puts after a flush within it waits from now.
+        pendingSince = System.nanoTime();
+    }
+}
@@ -0,0 +1,53 @@
+package simplf;
+
+import java.io.PrintStream;
+
+// Wall time spent in each phase of Simplf.run, summed over every file or
+// REPL line, for --phase-times. Timing costs nothing while disabled.
+final class Phases {
+    enum Phase {
+        LEX("lex"),
+        PARSE_SLL("parse (SLL)"),
+        PARSE_LL("parse (LL retry)"),
+        PARSE_PRATT("parse (pratt)"),
+        DESUGAR("desugar"),
+        OPTIMIZE("optimize"),
+        CACHE_LOAD("cache load"),
+        CACHE_STORE("cache store"),
+        RUN("run");
+
+        final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    static boolean enabled;
+    private static final long[] nanos = new long[Phase.values().length];
+    private static final int[] counts = new int[Phase.values().length];
+
+    private Phases() {
+
+    }
+
+    static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    static void end(Phase phase, long start) {
+        if (enabled) {
+            nanos[phase.ordinal()] += System.nanoTime() - start;
+            counts[phase.ordinal()]++;
+        }
+    }
+
+    static void report(PrintStream out) {
+        for (Phase phase : Phase.values()) {
+            if (counts[phase.ordinal()] > 0) {
+                out.printf("%-18s %10.3f ms %6d times%n", phase.label, nanos[phase.ordinal()] / 1e6,
+                    counts[phase.ordinal()]);
+            }
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package simplf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import simplf.Expr.Assign;
+import simplf.Expr.Binary;
+import simplf.Expr.Call;
+import simplf.Expr.Grouping;
+import simplf.Expr.Literal;
+import simplf.Expr.Logical;
+import simplf.Expr.Unary;
+import simplf.Expr.Variable;
+import simplf.Stmt.Block;
+import simplf.Stmt.Expression;
+import simplf.Stmt.For;
+import simplf.Stmt.Function;
+import simplf.Stmt.If;
+import simplf.Stmt.Print;
+import simplf.Stmt.Var;
+import simplf.Stmt.While;
+
+/**
+ * Hand-written front end for simplf.g4, selected with --pratt. Statements
+ * are parsed by recursive descent and expressions by precedence climbing,
+ * building the same Stmt and Expr trees as the grammar's actions, with the
+ * same operator precedence and associativity: the binding powers below are
+ * the precedence levels ANTLR gives the alternatives of `expression`.
+ *
+ * A syntax error is reported through Simplf.error, which sets hadError, and
+ * parsing resumes at the next statement. ANTLR repairs the statement instead
+ * and runs it; Simplf runs nothing after an error from this parser.
+ */
+public class PrattParser {
+
+    private static class ParseError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ParseError() {
+            super(null, null, false, false);
+        }
+    }
+
+    // Binding powers, loosest first. Calls bind tighter than everything.
+    private static final int ASSIGNMENT = 2, OR = 3, AND = 4, EQUALITY = 5, COMPARISON = 6, TERM = 7,
+        FACTOR = 8, UNARY = 9;
+
+    private final Scanner scanner;
+
+    public PrattParser(CharSequence source) {
+        this.scanner = new Scanner(source);
+    }
+
+    public List<Stmt> parse() {
+        List<Stmt> stmts = new ArrayList<>();
+        for (Stmt stmt = next(); stmt != null; stmt = next()) {
+            stmts.add(stmt);
+        }
+        return stmts;
+    }
+
+    // Parses the next top-level declaration, skipping any with syntax errors.
+    // Returns null at the end of the input.
+    public Stmt next() {
+        while (scanner.type != TokenType.EOF) {
+            Stmt stmt = declaration();
+            if (stmt != null) {
+                return stmt;
+            }
+        }
+        return null;
+    }
+
+    // Statements
+
+    // Returns null after reporting a syntax error.
+    private Stmt declaration() {
+        try {
+            switch (scanner.type) {
+                case FUN:
+                    return funDecl();
+                case VAR:
+                    return varDecl();
+                default:
+                    return statement();
+            }
+        } catch (ParseError error) {
+            synchronize();
+            return null;
+        }
+    }
+
+    private Stmt funDecl() {
+        scanner.next();
+        Token name = identifier();
+        consume(TokenType.LEFT_PAREN, "Expect '(' after function name.");
+        List<Token> params = new ArrayList<>();
+        if (scanner.type != TokenType.RIGHT_PAREN) {
+            do {
+                params.add(identifier());
+            } while (match(TokenType.COMMA));
+        }
+        consume(TokenType.RIGHT_PAREN, "Expect ')' after parameters.");
+        return new Function(name, params, block());
+    }
+
+    private Stmt varDecl() {
+        scanner.next();
+        Token name = identifier();
+        Expr initializer = null;
+        if (match(TokenType.EQUAL)) {
+            initializer = expression();
+        }
+        consume(TokenType.SEMI_COLON, "Expect ';' after variable declaration.");
+        return new Var(name, initializer);
+    }
+
+    private Stmt statement() {
+        switch (scanner.type) {
+            case IF:
+                return ifStatement();
+            case PRINT: {
+                scanner.next();
+                Expr value = expression();
+                consume(TokenType.SEMI_COLON, "Expect ';' after value.");
+                return new Print(value);
+            }
+            case WHILE: {
+                scanner.next();
+                consume(TokenType.LEFT_PAREN, "Expect '(' after 'while'.");
+                Expr cond = expression();
+                consume(TokenType.RIGHT_PAREN, "Expect ')' after condition.");
+                return new While(cond, statement());
+            }
+            case FOR:
+                return forStatement();
+            case LEFT_BRACE:
+                return new Block(block());
+            default: {
+                Expr expr = expression();
+                consume(TokenType.SEMI_COLON, "Expect ';' after expression.");
+                return new Expression(expr);
+            }
+        }
+    }
+
+    // An else belongs to the nearest if, as with the grammar.
+    private Stmt ifStatement() {
+        scanner.next();
+        consume(TokenType.LEFT_PAREN, "Expect '(' after 'if'.");
+        Expr cond = expression();
+        consume(TokenType.RIGHT_PAREN, "Expect ')' after if condition.");
+        Stmt thenBranch = statement();
+        Stmt elseBranch = null;
+        if (match(TokenType.ELSE)) {
+            elseBranch = statement();
+        }
+        return new If(cond, thenBranch, elseBranch);
+    }
+
+    private Stmt forStatement() {
+        scanner.next();
+        consume(TokenType.LEFT_PAREN, "Expect '(' after 'for'.");
+        Expr init = expression();
+        consume(TokenType.SEMI_COLON, "Expect ';' after loop initializer.");
+        Expr cond = expression();
+        consume(TokenType.SEMI_COLON, "Expect ';' after loop condition.");
+        Expr incr = expression();
+        consume(TokenType.RIGHT_PAREN, "Expect ')' after for clauses.");
+        return new For(init, cond, incr, statement());
+    }
+
+    private List<Stmt> block() {
+        consume(TokenType.LEFT_BRACE, "Expect '{' before block.");
+        List<Stmt> stmts = new ArrayList<>();
+        while (scanner.type != TokenType.RIGHT_BRACE && scanner.type != TokenType.EOF) {
+            Stmt stmt = declaration();
+            if (stmt != null) {
+                stmts.add(stmt);
+            }
+        }
+        consume(TokenType.RIGHT_BRACE, "Expect '}' after block.");
+        return stmts;
+    }
+
+    // Expressions
+
+    private Expr expression() {
+        return expression(0);
+    }
+
+    // Parses an expression whose infix operators all bind at least as
+    // tightly as minPower. Operands of a binary operator are parsed one level
+    // tighter, which makes every binary operator left-associative.
+    private Expr expression(int minPower) {
+        Expr left = prefix();
+        for (;;) {
+            TokenType type = scanner.type;
+            if (type == TokenType.LEFT_PAREN) {
+                left = call(left);
+                continue;
+            }
+            int power = infixPower(type);
+            if (power < minPower) {
+                return left;
+            }
+            Token op = token();
+            scanner.next();
+            Expr right = expression(power + 1);
+            if (type == TokenType.AND || type == TokenType.OR) {
+                left = new Logical(left, op, right);
+            } else {
+                left = new Binary(left, op, right);
+            }
+        }
+    }
+
+    // -1 for tokens that cannot continue an expression.
+    private static int infixPower(TokenType type) {
+        switch (type) {
+            case OR:
+                return OR;
+            case AND:
+                return AND;
+            case EQUAL_EQUAL:
+            case BANG_EQUAL:
+                return EQUALITY;
+            case GREATER:
+            case GREATER_EQUAL:
+            case LESS:
+            case LESS_EQUAL:
+                return COMPARISON;
+            case PLUS:
+            case MINUS:
+                return TERM;
+            case STAR:
+            case SLASH:
+                return FACTOR;
+            default:
+                return -1;
+        }
+    }
+
+    private Expr prefix() {
+        switch (scanner.type) {
+            case NUMBER: {
+                Expr expr = new Literal(Double.parseDouble(scanner.text()));
+                scanner.next();
+                return expr;
+            }
+            case STRING: {
+                Expr expr = new Literal(scanner.stringValue());
+                scanner.next();
+                return expr;
+            }
+            case TRUE:
+                scanner.next();
+                return new Literal(true);
+            case FALSE:
+                scanner.next();
+                return new Literal(false);
+            case NIL:
+                scanner.next();
+                return new Literal(null);
+            case IDENTIFIER: {
+                Token name = identifier();
+                // The target of an assignment is a bare name; its value is
+                // everything that follows, whatever the caller's level.
+                if (match(TokenType.EQUAL)) {
+                    return new Assign(name, expression(ASSIGNMENT));
+                }
+                return new Variable(name);
+            }
+            case MINUS:
+            case BANG: {
+                Token op = token();
+                scanner.next();
+                return new Unary(op, expression(UNARY));
+            }
+            case LEFT_PAREN: {
+                scanner.next();
+                Expr expr = expression();
+                consume(TokenType.RIGHT_PAREN, "Expect ')' after expression.");
+                return new Grouping(expr);
+            }
+            default:
+                throw error("Expect expression.");
+        }
+    }
+
+    private Expr call(Expr callee) {
+        scanner.next();
+        List<Expr> args = new ArrayList<>();
+        if (scanner.type != TokenType.RIGHT_PAREN) {
+            do {
+                args.add(expression());
+            } while (match(TokenType.COMMA));
+        }
+        if (scanner.type != TokenType.RIGHT_PAREN) {
+            throw error("Expect ')' after arguments.");
+        }
+        Token paren = token();
+        scanner.next();
+        return new Call(callee, paren, args);
+    }
+
+    // Tokens
+
+    private Token identifier() {
+        if (scanner.type != TokenType.IDENTIFIER) {
+            throw error("Expect identifier.");
+        }
+        Token name = new Token(scanner.symbol, scanner.tokenLine, scanner.tokenCol);
+        scanner.next();
+        return name;
+    }
+
+    // The current token, for the tree to keep.
+    private Token token() {
+        return new Token(scanner.type, lexeme(scanner.type), null, scanner.tokenLine, scanner.tokenCol);
+    }
+
+    private String lexeme(TokenType type) {
+        switch (type) {
+            case RIGHT_PAREN:
+                return ")";
+            case MINUS:
+                return "-";
+            case PLUS:
+                return "+";
+            case STAR:
+                return "*";
+            case SLASH:
+                return "/";
+            case BANG:
+                return "!";
+            case BANG_EQUAL:
+                return "!=";
+            case EQUAL_EQUAL:
+                return "==";
+            case GREATER:
+                return ">";
+            case GREATER_EQUAL:
+                return ">=";
+            case LESS:
+                return "<";
+            case LESS_EQUAL:
+                return "<=";
+            case AND:
+                return "and";
+            case OR:
+                return "or";
+            default:
+                return scanner.text();
+        }
+    }
+
+    private boolean match(TokenType type) {
+        if (scanner.type == type) {
+            scanner.next();
+            return true;
+        }
+        return false;
+    }
+
+    private void consume(TokenType type, String message) {
+        if (!match(type)) {
+            throw error(message);
+        }
+    }
+
+    private ParseError error(String message) {
+        if (scanner.type == TokenType.EOF) {
+            Simplf.error(new Token(TokenType.EOF, "", null, scanner.tokenLine, scanner.tokenCol), message);
+        } else {
+            Simplf.error(new Token(scanner.type, scanner.text(), null, scanner.tokenLine, scanner.tokenCol), message);
+        }
+        return new ParseError();
+    }
+
+    // Skips past the offending token to what is likely the start of the
+    // next statement.
+    private void synchronize() {
+        while (scanner.type != TokenType.EOF) {
+            TokenType skipped = scanner.type;
+            scanner.next();
+            if (skipped == TokenType.SEMI_COLON) {
+                return;
+            }
+            switch (scanner.type) {
+                case RIGHT_BRACE:
+                case FUN:
+                case VAR:
+                case FOR:
+                case IF:
+                case WHILE:
+                case PRINT:
+                    return;
+                default:
+                    break;
+            }
+        }
+    }
+}
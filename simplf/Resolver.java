@@ -0,0 +1,408 @@
+package simplf;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import simplf.Expr.Assign;
+import simplf.Expr.Binary;
+import simplf.Expr.Call;
+import simplf.Expr.Conditional;
+import simplf.Expr.Grouping;
+import simplf.Expr.Literal;
+import simplf.Expr.Logical;
+import simplf.Expr.Unary;
+import simplf.Expr.Variable;
+import simplf.Stmt.Block;
+import simplf.Stmt.CountedLoop;
+import simplf.Stmt.Expression;
+import simplf.Stmt.For;
+import simplf.Stmt.Function;
+import simplf.Stmt.If;
+import simplf.Stmt.Print;
+import simplf.Stmt.Var;
+import simplf.Stmt.While;
+
+/**
+ * Static pass over the desugared program that gives every variable reference
+ * a (depth, slot) address. Depth counts the scopes to walk out of, slot is the
+ * declaration's position in that scope. References that do not resolve keep
+ * depth -1 and fail at runtime, as they did with name lookup.
+ *
+ * The global scope outlives a single call to resolve so REPL lines can see
+ * earlier definitions. Declarations in it and references to it are marked
+ * global; those slots index Globals as well as the global frame.
+ */
+public class Resolver implements Expr.Visitor<Void>, Stmt.Visitor<Void> {
+
+    private static class Scope {
+        final ArrayList<Symbol> names = new ArrayList<>();
+        final HashMap<Symbol, Integer> latest = new HashMap<>();
+
+        int declare(Symbol name) {
+            int slot = names.size();
+            names.add(name);
+            latest.put(name, slot);
+            return slot;
+        }
+
+        void truncate(int size) {
+            while (names.size() > size) {
+                names.remove(names.size() - 1);
+            }
+            rebuild();
+        }
+
+        // The slots from `start` on stay in the frame but can no longer be
+        // named: they belonged to a block merged into this scope.
+        void hide(int start) {
+            for (int i = start; i < names.size(); i++) {
+                names.set(i, null);
+            }
+            rebuild();
+        }
+
+        private void rebuild() {
+            latest.clear();
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i) != null) {
+                    latest.put(names.get(i), i);
+                }
+            }
+        }
+    }
+
+    private final Scope globals = new Scope();
+    private final ArrayList<Scope> scopes = new ArrayList<>();
+
+    public Resolver() {
+        scopes.add(globals);
+    }
+
+    public void resolve(List<Stmt> stmts) {
+        for (Stmt stmt : stmts) {
+            resolve(stmt);
+        }
+    }
+
+    public void resolve(Stmt stmt) {
+        stmt.accept(this);
+    }
+
+    int globalCount() {
+        return globals.names.size();
+    }
+
+    // Forget globals declared by statements that never got to run.
+    void truncateGlobals(int count) {
+        globals.truncate(count);
+    }
+
+    private void resolve(Expr expr) {
+        expr.accept(this);
+    }
+
+    private int declare(Token name) {
+        return scopes.get(scopes.size() - 1).declare(name.symbol);
+    }
+
+    private void beginScope() {
+        scopes.add(new Scope());
+    }
+
+    // Returns the number of slots the scope's frame needs.
+    private int endScope() {
+        return scopes.remove(scopes.size() - 1).names.size();
+    }
+
+    // Returns {depth, slot}, or null when the name is not in scope.
+    private int[] lookup(Token name) {
+        for (int i = scopes.size() - 1; i >= 0; i--) {
+            Integer slot = scopes.get(i).latest.get(name.symbol);
+            if (slot != null) {
+                return new int[] { scopes.size() - 1 - i, slot };
+            }
+        }
+        return null;
+    }
+
+    private boolean atTopLevel() {
+        return scopes.size() == 1;
+    }
+
+    private boolean isGlobal(int[] address) {
+        return address[0] == scopes.size() - 1;
+    }
+
+    @Override
+    public Void visitPrintStmt(Print stmt) {
+        resolve(stmt.expr);
+        return null;
+    }
+
+    @Override
+    public Void visitExprStmt(Expression stmt) {
+        resolve(stmt.expr);
+        return null;
+    }
+
+    @Override
+    public Void visitVarStmt(Var stmt) {
+        if (stmt.initializer != null) {
+            resolve(stmt.initializer);
+        }
+        stmt.global = atTopLevel();
+        stmt.slot = declare(stmt.name);
+        return null;
+    }
+
+    // A block only needs a frame of its own if it declares something and a
+    // closure created inside it could tell one frame per entry from slots
+    // reused in the enclosing frame. Otherwise its variables are merged into
+    // the enclosing frame and it runs there.
+    @Override
+    public Void visitBlockStmt(Block stmt) {
+        if (declares(stmt.statements) && declaresFunction(stmt.statements)) {
+            beginScope();
+            resolve(stmt.statements);
+            stmt.frameSize = endScope();
+            return null;
+        }
+
+        Scope scope = scopes.get(scopes.size() - 1);
+        int start = scope.names.size();
+        resolve(stmt.statements);
+        scope.hide(start);
+        stmt.merged = true;
+        return null;
+    }
+
+    private static boolean declares(List<Stmt> stmts) {
+        for (Stmt stmt : stmts) {
+            if (stmt instanceof Var || stmt instanceof Function) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean declaresFunction(List<Stmt> stmts) {
+        for (Stmt stmt : stmts) {
+            if (declaresFunction(stmt)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean declaresFunction(Stmt stmt) {
+        if (stmt instanceof Function) {
+            return true;
+        } else if (stmt instanceof Block) {
+            return declaresFunction(((Block) stmt).statements);
+        } else if (stmt instanceof If) {
+            If ifStmt = (If) stmt;
+            return declaresFunction(ifStmt.thenBranch)
+                    || (ifStmt.elseBranch != null && declaresFunction(ifStmt.elseBranch));
+        } else if (stmt instanceof While) {
+            return declaresFunction(((While) stmt).body);
+        } else if (stmt instanceof CountedLoop) {
+            return declaresFunction(((CountedLoop) stmt).body);
+        }
+        return false;
+    }
+
+    @Override
+    public Void visitIfStmt(If stmt) {
+        resolve(stmt.cond);
+        resolve(stmt.thenBranch);
+        if (stmt.elseBranch != null) {
+            resolve(stmt.elseBranch);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitWhileStmt(While stmt) {
+        resolve(stmt.cond);
+        resolve(stmt.body);
+        return null;
+    }
+
+    @Override
+    public Void visitCountedLoopStmt(CountedLoop stmt) {
+        resolve(stmt.init);
+        resolve(stmt.cond);
+        resolve(stmt.body);
+        resolve(stmt.incr);
+        return null;
+    }
+
+    @Override
+    public Void visitForStmt(For stmt) {
+        throw new UnsupportedOperationException("For loops are not resolved.");
+    }
+
+    @Override
+    public Void visitFunctionStmt(Function stmt) {
+        // Declared before the body so the function can call itself.
+        stmt.global = atTopLevel();
+        stmt.slot = declare(stmt.name);
+
+        beginScope();
+        for (Token param : stmt.params) {
+            declare(param);
+        }
+        resolve(stmt.body);
+        stmt.frameSize = endScope();
+        markTailCalls(stmt.body);
+        return null;
+    }
+
+    // A body's result is its last statement's value when that is an
+    // expression statement, otherwise nil, so calls can be in tail position
+    // either for their value or with it dropped.
+    private static void markTailCalls(List<Stmt> body) {
+        if (body.isEmpty()) {
+            return;
+        }
+        Stmt last = body.get(body.size() - 1);
+        if (last instanceof Expression) {
+            markTailCalls(((Expression) last).expr, false);
+        } else {
+            markTailCalls(last);
+        }
+    }
+
+    private static void markTailCalls(Stmt stmt) {
+        if (stmt instanceof Expression) {
+            markTailCalls(((Expression) stmt).expr, true);
+        } else if (stmt instanceof If) {
+            If ifStmt = (If) stmt;
+            markTailCalls(ifStmt.thenBranch);
+            if (ifStmt.elseBranch != null) {
+                markTailCalls(ifStmt.elseBranch);
+            }
+        } else if (stmt instanceof Block) {
+            List<Stmt> statements = ((Block) stmt).statements;
+            if (!statements.isEmpty()) {
+                markTailCalls(statements.get(statements.size() - 1));
+            }
+        }
+    }
+
+    private static void markTailCalls(Expr expr, boolean dropsResult) {
+        if (expr instanceof Call) {
+            ((Call) expr).tail = true;
+            ((Call) expr).dropsResult = dropsResult;
+        } else if (expr instanceof Grouping) {
+            markTailCalls(((Grouping) expr).expression, dropsResult);
+        } else if (expr instanceof Logical) {
+            markTailCalls(((Logical) expr).right, dropsResult);
+        } else if (expr instanceof Conditional) {
+            markTailCalls(((Conditional) expr).thenBranch, dropsResult);
+            markTailCalls(((Conditional) expr).elseBranch, dropsResult);
+        } else if (expr instanceof Binary && ((Binary) expr).op.type == TokenType.COMMA) {
+            markTailCalls(((Binary) expr).right, dropsResult);
+        }
+    }
+
+    @Override
+    public Void visitBinary(Binary expr) {
+        resolve(expr.left);
+        resolve(expr.right);
+        boolean leftNumeric = Interpreter.isNumeric(expr.left);
+        boolean rightNumeric = Interpreter.isNumeric(expr.right);
+        switch (expr.op.type) {
+            case MINUS:
+            case STAR:
+            case SLASH:
+                expr.numeric = true;
+                expr.leftNumeric = leftNumeric;
+                expr.rightNumeric = rightNumeric;
+                break;
+            case PLUS:
+                expr.numeric = leftNumeric && rightNumeric;
+                expr.leftNumeric = leftNumeric;
+                expr.rightNumeric = rightNumeric;
+                break;
+            case GREATER:
+            case GREATER_EQUAL:
+            case LESS:
+            case LESS_EQUAL:
+                expr.leftNumeric = leftNumeric;
+                expr.rightNumeric = rightNumeric;
+                break;
+            case COMMA:
+                expr.numeric = rightNumeric;
+                break;
+            default:
+                break;
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitUnary(Unary expr) {
+        resolve(expr.right);
+        return null;
+    }
+
+    @Override
+    public Void visitLiteral(Literal expr) {
+        return null;
+    }
+
+    @Override
+    public Void visitGrouping(Grouping expr) {
+        resolve(expr.expression);
+        return null;
+    }
+
+    @Override
+    public Void visitVarExpr(Variable expr) {
+        int[] address = lookup(expr.name);
+        if (address != null) {
+            expr.depth = address[0];
+            expr.slot = address[1];
+            expr.global = isGlobal(address);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitAssignExpr(Assign expr) {
+        resolve(expr.value);
+        int[] address = lookup(expr.name);
+        if (address != null) {
+            expr.depth = address[0];
+            expr.slot = address[1];
+            expr.global = isGlobal(address);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visitLogicalExpr(Logical expr) {
+        resolve(expr.left);
+        resolve(expr.right);
+        return null;
+    }
+
+    @Override
+    public Void visitConditionalExpr(Conditional expr) {
+        resolve(expr.cond);
+        resolve(expr.thenBranch);
+        resolve(expr.elseBranch);
+        return null;
+    }
+
+    @Override
+    public Void visitCallExpr(Call expr) {
+        resolve(expr.callee);
+        for (Expr arg : expr.args) {
+            resolve(arg);
+        }
+        return null;
+    }
+}
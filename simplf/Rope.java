@@ -0,0 +1,67 @@
+package simplf;
+
+// The string that `+` produces. A Rope is a prefix of a StringBuilder that
+// may be shared with longer Ropes built from it. Appending to the newest
+// Rope of a buffer extends the buffer in place, so `s = s + line` in a loop
+// costs amortized O(1) per append; appending to an older one copies its
+// prefix first. The characters become a String, once, when the value is
+// printed or compared.
+final class Rope {
+    private final StringBuilder buffer;
+    private final int length;
+    private String flat;
+
+    private Rope(StringBuilder buffer) {
+        this.buffer = buffer;
+        this.length = buffer.length();
+    }
+
+    static boolean isString(Object value) {
+        return value instanceof String || value instanceof Rope;
+    }
+
+    static Rope concat(Object left, Object right) {
+        StringBuilder buffer;
+        if (left instanceof Rope) {
+            Rope rope = (Rope) left;
+            if (rope.buffer.length() == rope.length) {
+                buffer = rope.buffer;
+            } else {
+                buffer = new StringBuilder(rope.length + 16).append(rope.buffer, 0, rope.length);
+            }
+        } else {
+            buffer = append(new StringBuilder(), left);
+        }
+        return new Rope(append(buffer, right));
+    }
+
+    // Numbers and Ropes are copied into the buffer without making a String.
+    private static StringBuilder append(StringBuilder buffer, Object value) {
+        if (value instanceof Double) {
+            return Numbers.append(buffer, (double) value);
+        }
+        if (value instanceof Rope && ((Rope) value).buffer != buffer) {
+            Rope rope = (Rope) value;
+            return buffer.append(rope.buffer, 0, rope.length);
+        }
+        return buffer.append(Interpreter.stringify(value));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Rope && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (flat == null) {
+            flat = buffer.substring(0, length);
+        }
+        return flat;
+    }
+}
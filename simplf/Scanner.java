@@ -0,0 +1,222 @@
+package simplf;
+
+// The lexer of PrattParser, accepting the tokens of simplf.g4. It scans one
+// token at a time on request and keeps it as fields rather than a Token:
+// the parser only builds Tokens for what the syntax tree holds (names,
+// operators and call parentheses), so punctuation and keywords cost nothing
+// beyond their scan. Lines start at 1 and columns at 0, as in ANTLR.
+//
+// The source is any CharSequence, such as a MappedSource over a file, and
+// tokens are offsets into it. Names are interned from their offsets, and
+// the text of anything else is only copied out when the parser asks.
+//
+// Unlike the ANTLR lexer, a comment may end at the end of the input
+// instead of a newline.
+final class Scanner {
+    // Reserved by the grammar but not part of the language.
+    private static final Symbol CLASS = Symbol.intern("class");
+    private static final Symbol SUPER = Symbol.intern("super");
+    private static final Symbol THIS = Symbol.intern("this");
+
+    static {
+        keyword("and", TokenType.AND);
+        keyword("else", TokenType.ELSE);
+        keyword("false", TokenType.FALSE);
+        keyword("for", TokenType.FOR);
+        keyword("fun", TokenType.FUN);
+        keyword("if", TokenType.IF);
+        keyword("nil", TokenType.NIL);
+        keyword("or", TokenType.OR);
+        keyword("print", TokenType.PRINT);
+        keyword("true", TokenType.TRUE);
+        keyword("var", TokenType.VAR);
+        keyword("while", TokenType.WHILE);
+    }
+
+    private static void keyword(String name, TokenType type) {
+        Symbol.intern(name).keyword = type;
+    }
+
+    private final CharSequence source;
+    private final int length;
+    private int current;
+    private int line = 1, lineStart;
+
+    // The current token. Its text is source[start, end).
+    TokenType type;
+    int start, end;
+    int tokenLine, tokenCol;
+    // The name of the current token when it is an IDENTIFIER.
+    Symbol symbol;
+
+    Scanner(CharSequence source) {
+        this.source = source;
+        this.length = source.length();
+        next();
+    }
+
+    String text() {
+        return source.subSequence(start, end).toString();
+    }
+
+    // The contents of a STRING token, without the quotes.
+    String stringValue() {
+        return source.subSequence(start + 1, end - 1).toString();
+    }
+
+    void next() {
+        for (;;) {
+            skipBlanks();
+            start = current;
+            tokenLine = line;
+            tokenCol = current - lineStart;
+            if (current == length) {
+                end = current;
+                type = TokenType.EOF;
+                return;
+            }
+            type = scan(source.charAt(current++));
+            end = current;
+            if (type != null) {
+                return;
+            }
+        }
+    }
+
+    private void skipBlanks() {
+        while (current < length) {
+            char c = source.charAt(current);
+            if (c == '\n') {
+                current++;
+                line++;
+                lineStart = current;
+            } else if (c == ' ' || c == '\r' || c == '\t') {
+                current++;
+            } else if (c == '/' && current + 1 < length && source.charAt(current + 1) == '/') {
+                while (current < length && source.charAt(current) != '\n') {
+                    current++;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    // Returns null after reporting a character that starts no token.
+    private TokenType scan(char c) {
+        switch (c) {
+            case '(':
+                return TokenType.LEFT_PAREN;
+            case ')':
+                return TokenType.RIGHT_PAREN;
+            case '{':
+                return TokenType.LEFT_BRACE;
+            case '}':
+                return TokenType.RIGHT_BRACE;
+            case ',':
+                return TokenType.COMMA;
+            case '.':
+                return TokenType.DOT;
+            case '-':
+                return TokenType.MINUS;
+            case '+':
+                return TokenType.PLUS;
+            case ';':
+                return TokenType.SEMI_COLON;
+            case '*':
+                return TokenType.STAR;
+            case '/':
+                return TokenType.SLASH;
+            case '!':
+                return match('=') ? TokenType.BANG_EQUAL : TokenType.BANG;
+            case '=':
+                return match('=') ? TokenType.EQUAL_EQUAL : TokenType.EQUAL;
+            case '>':
+                return match('=') ? TokenType.GREATER_EQUAL : TokenType.GREATER;
+            case '<':
+                return match('=') ? TokenType.LESS_EQUAL : TokenType.LESS;
+            case '"':
+                return string();
+            default:
+                if (isDigit(c)) {
+                    return number();
+                }
+                if (isAlpha(c)) {
+                    return identifier();
+                }
+                // A run of non-ASCII is reported whole, so that a mapped
+                // source can decode it.
+                while (c >= 0x80 && current < length && source.charAt(current) >= 0x80) {
+                    current++;
+                }
+                Simplf.error(tokenLine, tokenCol, "Unexpected character '" + source.subSequence(start, current) + "'.");
+                return null;
+        }
+    }
+
+    private boolean match(char expected) {
+        if (current < length && source.charAt(current) == expected) {
+            current++;
+            return true;
+        }
+        return false;
+    }
+
+    private TokenType string() {
+        while (current < length) {
+            char c = source.charAt(current);
+            if (c == '"') {
+                current++;
+                return TokenType.STRING;
+            }
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            current++;
+        }
+        Simplf.error(tokenLine, tokenCol, "Unterminated string.");
+        return null;
+    }
+
+    private TokenType number() {
+        while (current < length && isDigit(source.charAt(current))) {
+            current++;
+        }
+        // A fraction needs digits after the dot; otherwise the dot is a token.
+        if (current + 1 < length && source.charAt(current) == '.' && isDigit(source.charAt(current + 1))) {
+            current++;
+            while (current < length && isDigit(source.charAt(current))) {
+                current++;
+            }
+        }
+        return TokenType.NUMBER;
+    }
+
+    private TokenType identifier() {
+        while (current < length && isAlphaNumeric(source.charAt(current))) {
+            current++;
+        }
+        Symbol name = Symbol.intern(source, start, current);
+        if (name.keyword != null) {
+            return name.keyword;
+        }
+        if (name == CLASS || name == SUPER || name == THIS) {
+            Simplf.error(tokenLine, tokenCol, "'" + name + "' is reserved.");
+            return null;
+        }
+        symbol = name;
+        return TokenType.IDENTIFIER;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isAlphaNumeric(char c) {
+        return isAlpha(c) || isDigit(c);
+    }
+}
@@ -0,0 +1,657 @@
+package simplf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A directory of programs as the engines receive them, after Desugar and
+// Optimizer, for --cache. An entry is named by a hash of the build, the
+// front end, the charset and the source bytes, so an edited script or a
+// rebuilt interpreter simply misses, and the stale entry ages out. Running
+// from an entry lexes, parses and desugars nothing.
+//
+// The cache is best effort: an entry that cannot be read is deleted and
+// counts as a miss, and one that cannot be written is skipped. Entries are
+// written whole and renamed into place, so concurrent runs only ever see
+// complete ones. After each write the least recently used entries are
+// deleted until the directory is back under its limit.
+final class ScriptCache {
+    static final long DEFAULT_LIMIT = 64L << 20;
+
+    private static final int MAGIC = 0x53504C46;
+    private static final String SUFFIX = ".sfc";
+
+    // Node tags. Literals are tagged by their value.
+    private static final int NONE = 0, PRINT = 1, EXPRESSION = 2, VAR = 3, BLOCK = 4, IF = 5, WHILE = 6, FOR = 7,
+        COUNTED_LOOP = 8, FUNCTION = 9, BINARY = 10, UNARY = 11, NIL = 12, TRUE = 13, FALSE = 14, NUMBER = 15,
+        STRING = 16, GROUPING = 17, VARIABLE = 18, ASSIGN = 19, LOGICAL = 20, CONDITIONAL = 21, CALL = 22,
+        INTEGER = 23;
+
+    private static final TokenType[] TOKEN_TYPES = TokenType.values();
+
+    private final Path dir;
+    private final long limit;
+    private final Long build = build();
+
+    ScriptCache(Path dir, long limit) {
+        this.dir = dir;
+        this.limit = limit;
+    }
+
+    // Identifies the running build by the name, size and modification time
+    // of every class file of this package, or of the jar holding them. Any
+    // rebuild changes it, so trees from another build of the front ends,
+    // Desugar, Optimizer or the encoding below are never read. Null when
+    // the classes are not loaded from local files.
+    private static Long build() {
+        CodeSource source = ScriptCache.class.getProtectionDomain().getCodeSource();
+        if (source == null || !"file".equals(source.getLocation().getProtocol())) {
+            return null;
+        }
+        File root;
+        try {
+            root = new File(source.getLocation().toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+        if (root.isFile()) {
+            return stat(0xcbf29ce484222325L, root);
+        }
+        File classes = new File(root, "simplf");
+        return classes.isDirectory() ? stat(0xcbf29ce484222325L, classes) : null;
+    }
+
+    private static long stat(long hash, File file) {
+        hash = fnv(hash, 0x100000001b3L, file.getName().getBytes(StandardCharsets.UTF_8));
+        File[] files = file.listFiles();
+        if (files == null) {
+            return mix(mix(hash ^ file.length()) ^ file.lastModified());
+        }
+        // listFiles gives no order, so the children are summed.
+        long sum = 0;
+        for (File child : files) {
+            sum += stat(hash, child);
+        }
+        return mix(hash ^ sum);
+    }
+
+    static Path defaultDir() {
+        return Paths.get(System.getProperty("user.home"), ".cache", "simplf");
+    }
+
+    // The file of the entry for a source, named by a 128-bit hash: two FNV-1a
+    // lanes with different constants, each finished with a mixer. The build
+    // and the front end that parses a miss are hashed too, and so is the
+    // charset, since string literals are decoded with it. Null when the
+    // build is unknown; nothing is cached then.
+    // MessageDigest would load the security providers, which costs more at
+    // startup than a hit saves. The hash does not resist scripts crafted to
+    // collide; the directory is trusted like the scripts that fill it.
+    Path entry(byte[] source, Charset charset, String frontEnd) {
+        if (build == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder().append(charset.name()).append(' ').append(frontEnd);
+        byte[] salt = key.toString().getBytes(StandardCharsets.UTF_8);
+        long h1 = fnv(fnv(0xcbf29ce484222325L ^ build, 0x100000001b3L, salt), 0x100000001b3L, source);
+        long h2 = fnv(fnv(0x6a09e667f3bcc909L ^ build, 0x9e3779b97f4a7c15L, salt), 0x9e3779b97f4a7c15L, source);
+        StringBuilder name = new StringBuilder();
+        hex(name, mix(h1 ^ source.length));
+        hex(name, mix(h2 ^ salt.length));
+        return dir.resolve(name.append(SUFFIX).toString());
+    }
+
+    private static long fnv(long hash, long prime, byte[] bytes) {
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * prime;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static void hex(StringBuilder out, long value) {
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            out.append(Character.forDigit((int) (value >>> shift) & 0xF, 16));
+        }
+    }
+
+    // Returns null on a miss.
+    List<Stmt> load(Path file) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (IOException e) {
+            return null;
+        }
+        List<Stmt> program;
+        try {
+            program = new Reader(bytes).program();
+        } catch (IOException e) {
+            delete(file);
+            return null;
+        }
+        // Eviction goes by modification time. This is cheaper at startup
+        // than Files.setLastModifiedTime, and a failure only means the entry
+        // may be evicted early.
+        file.toFile().setLastModified(System.currentTimeMillis());
+        return program;
+    }
+
+    void store(Path file, List<Stmt> program) {
+        byte[] bytes = new Writer().program(program);
+        if (bytes == null) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(dir);
+            temp = Files.createTempFile(dir, null, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            evict();
+        } catch (IOException e) {
+            // Not cached.
+        } finally {
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    // Deletes the least recently used entries until the rest fit in limit.
+    private void evict() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, BasicFileAttributes> attributes = new HashMap<>();
+        long total = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.add(file);
+                    attributes.put(file, attrs);
+                    total += attrs.size();
+                } catch (IOException e) {
+                    // Deleted by another run.
+                }
+            }
+        }
+        if (total <= limit) {
+            return;
+        }
+        entries.sort(Comparator.comparing(file -> attributes.get(file).lastModifiedTime()));
+        for (Path file : entries) {
+            if (total <= limit) {
+                break;
+            }
+            delete(file);
+            total -= attributes.get(file).size();
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Left for the next eviction.
+        }
+    }
+
+    // Encodes a program as tagged nodes in preorder. Counts, token types,
+    // columns and whole numbers are varints, a line is the difference from
+    // the line of the previous token, and each distinct string is written
+    // once, then referred to by index.
+    private static final class Writer implements Stmt.Visitor<Void>, Expr.Visitor<Void> {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final Map<String, Integer> strings = new HashMap<>();
+        private int line;
+        // Set on a literal with no encoding; the program is then not cached.
+        private boolean unsupported;
+
+        byte[] program(List<Stmt> program) {
+            writeInt(MAGIC);
+            stmts(program);
+            return unsupported ? null : out.toByteArray();
+        }
+
+        private void stmts(List<Stmt> stmts) {
+            varint(stmts.size());
+            for (Stmt stmt : stmts) {
+                stmt(stmt);
+            }
+        }
+
+        private void stmt(Stmt stmt) {
+            if (stmt == null) {
+                out.write(NONE);
+            } else {
+                stmt.accept(this);
+            }
+        }
+
+        private void expr(Expr expr) {
+            if (expr == null) {
+                out.write(NONE);
+            } else {
+                expr.accept(this);
+            }
+        }
+
+        private void token(Token token) {
+            varint(token.type.ordinal());
+            string(token.lexeme);
+            // Zigzag, for lines before the last.
+            int delta = token.line - line;
+            varint((delta << 1) ^ (delta >> 31));
+            line = token.line;
+            varint(token.col);
+        }
+
+        private void string(String s) {
+            Integer index = strings.get(s);
+            if (index != null) {
+                varint(index + 1);
+                return;
+            }
+            strings.put(s, strings.size());
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            varint(0);
+            varint(bytes.length);
+            out.write(bytes, 0, bytes.length);
+        }
+
+        private void varint(int value) {
+            while ((value & ~0x7F) != 0) {
+                out.write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write(value);
+        }
+
+        private void writeInt(int value) {
+            out.write(value >>> 24);
+            out.write(value >>> 16);
+            out.write(value >>> 8);
+            out.write(value);
+        }
+
+        @Override
+        public Void visitPrintStmt(Stmt.Print stmt) {
+            out.write(PRINT);
+            expr(stmt.expr);
+            return null;
+        }
+
+        @Override
+        public Void visitExprStmt(Stmt.Expression stmt) {
+            out.write(EXPRESSION);
+            expr(stmt.expr);
+            return null;
+        }
+
+        @Override
+        public Void visitVarStmt(Stmt.Var stmt) {
+            out.write(VAR);
+            token(stmt.name);
+            expr(stmt.initializer);
+            return null;
+        }
+
+        @Override
+        public Void visitBlockStmt(Stmt.Block stmt) {
+            out.write(BLOCK);
+            stmts(stmt.statements);
+            return null;
+        }
+
+        @Override
+        public Void visitIfStmt(Stmt.If stmt) {
+            out.write(IF);
+            expr(stmt.cond);
+            stmt(stmt.thenBranch);
+            stmt(stmt.elseBranch);
+            return null;
+        }
+
+        @Override
+        public Void visitWhileStmt(Stmt.While stmt) {
+            out.write(WHILE);
+            expr(stmt.cond);
+            stmt(stmt.body);
+            return null;
+        }
+
+        @Override
+        public Void visitForStmt(Stmt.For stmt) {
+            out.write(FOR);
+            expr(stmt.init);
+            expr(stmt.cond);
+            expr(stmt.incr);
+            stmt(stmt.body);
+            return null;
+        }
+
+        @Override
+        public Void visitCountedLoopStmt(Stmt.CountedLoop stmt) {
+            out.write(COUNTED_LOOP);
+            expr(stmt.init);
+            expr(stmt.cond);
+            expr(stmt.incr);
+            stmt(stmt.body);
+            return null;
+        }
+
+        @Override
+        public Void visitFunctionStmt(Stmt.Function stmt) {
+            out.write(FUNCTION);
+            token(stmt.name);
+            varint(stmt.params.size());
+            for (Token param : stmt.params) {
+                token(param);
+            }
+            stmts(stmt.body);
+            return null;
+        }
+
+        @Override
+        public Void visitBinary(Expr.Binary expr) {
+            out.write(BINARY);
+            expr(expr.left);
+            token(expr.op);
+            expr(expr.right);
+            return null;
+        }
+
+        @Override
+        public Void visitUnary(Expr.Unary expr) {
+            out.write(UNARY);
+            token(expr.op);
+            expr(expr.right);
+            return null;
+        }
+
+        @Override
+        public Void visitLiteral(Expr.Literal expr) {
+            Object val = expr.val;
+            if (val == null) {
+                out.write(NIL);
+            } else if (val instanceof Boolean) {
+                out.write((Boolean) val ? TRUE : FALSE);
+            } else if (val instanceof Double && isInteger((Double) val)) {
+                out.write(INTEGER);
+                varint((int) (double) (Double) val);
+            } else if (val instanceof Double) {
+                out.write(NUMBER);
+                long bits = Double.doubleToRawLongBits((Double) val);
+                writeInt((int) (bits >>> 32));
+                writeInt((int) bits);
+            } else if (val instanceof String) {
+                out.write(STRING);
+                string((String) val);
+            } else {
+                unsupported = true;
+            }
+            return null;
+        }
+
+        // Not -0.0, the double with only the sign bit set, which would come
+        // back as 0.0.
+        private static boolean isInteger(double val) {
+            return val >= 0 && val == (int) val && Double.doubleToRawLongBits(val) != Long.MIN_VALUE;
+        }
+
+        @Override
+        public Void visitGrouping(Expr.Grouping expr) {
+            out.write(GROUPING);
+            expr(expr.expression);
+            return null;
+        }
+
+        @Override
+        public Void visitVarExpr(Expr.Variable expr) {
+            out.write(VARIABLE);
+            token(expr.name);
+            return null;
+        }
+
+        @Override
+        public Void visitAssignExpr(Expr.Assign expr) {
+            out.write(ASSIGN);
+            token(expr.name);
+            expr(expr.value);
+            return null;
+        }
+
+        @Override
+        public Void visitLogicalExpr(Expr.Logical expr) {
+            out.write(LOGICAL);
+            expr(expr.left);
+            token(expr.op);
+            expr(expr.right);
+            return null;
+        }
+
+        @Override
+        public Void visitConditionalExpr(Expr.Conditional expr) {
+            out.write(CONDITIONAL);
+            expr(expr.cond);
+            expr(expr.thenBranch);
+            expr(expr.elseBranch);
+            return null;
+        }
+
+        @Override
+        public Void visitCallExpr(Expr.Call expr) {
+            out.write(CALL);
+            expr(expr.callee);
+            token(expr.paren);
+            varint(expr.args.size());
+            for (Expr arg : expr.args) {
+                expr(arg);
+            }
+            return null;
+        }
+    }
+
+    // Decodes what Writer wrote, failing with an IOException on anything
+    // else: a truncated file, an unknown tag or a node of the wrong kind.
+    private static final class Reader {
+        private final byte[] bytes;
+        private int pos;
+        private final List<String> strings = new ArrayList<>();
+        private int line;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        List<Stmt> program() throws IOException {
+            if (readInt() != MAGIC) {
+                throw corrupt();
+            }
+            List<Stmt> program = stmts();
+            if (pos != bytes.length) {
+                throw corrupt();
+            }
+            return program;
+        }
+
+        private List<Stmt> stmts() throws IOException {
+            int count = count();
+            List<Stmt> stmts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                stmts.add(stmt());
+            }
+            return stmts;
+        }
+
+        private Stmt stmt() throws IOException {
+            switch (read()) {
+                case NONE:
+                    return null;
+                case PRINT:
+                    return new Stmt.Print(expr());
+                case EXPRESSION:
+                    return new Stmt.Expression(expr());
+                case VAR:
+                    return new Stmt.Var(token(), expr());
+                case BLOCK:
+                    return new Stmt.Block(stmts());
+                case IF:
+                    return new Stmt.If(expr(), stmt(), stmt());
+                case WHILE:
+                    return new Stmt.While(expr(), stmt());
+                case FOR:
+                    return new Stmt.For(expr(), expr(), expr(), stmt());
+                case COUNTED_LOOP: {
+                    Expr init = expr(), cond = expr(), incr = expr();
+                    if (!(init instanceof Expr.Assign && cond instanceof Expr.Binary && incr instanceof Expr.Assign)) {
+                        throw corrupt();
+                    }
+                    return new Stmt.CountedLoop((Expr.Assign) init, (Expr.Binary) cond, (Expr.Assign) incr, stmt());
+                }
+                case FUNCTION: {
+                    Token name = token();
+                    int count = count();
+                    List<Token> params = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        params.add(token());
+                    }
+                    return new Stmt.Function(name, params, stmts());
+                }
+                default:
+                    throw corrupt();
+            }
+        }
+
+        private Expr expr() throws IOException {
+            switch (read()) {
+                case NONE:
+                    return null;
+                case BINARY:
+                    return new Expr.Binary(expr(), token(), expr());
+                case UNARY:
+                    return new Expr.Unary(token(), expr());
+                case NIL:
+                    return new Expr.Literal(null);
+                case TRUE:
+                    return new Expr.Literal(true);
+                case FALSE:
+                    return new Expr.Literal(false);
+                case NUMBER: {
+                    long high = readInt() & 0xFFFFFFFFL;
+                    return new Expr.Literal(Double.longBitsToDouble(high << 32 | (readInt() & 0xFFFFFFFFL)));
+                }
+                case INTEGER:
+                    return new Expr.Literal((double) varint());
+                case STRING:
+                    return new Expr.Literal(string());
+                case GROUPING:
+                    return new Expr.Grouping(expr());
+                case VARIABLE:
+                    return new Expr.Variable(token());
+                case ASSIGN:
+                    return new Expr.Assign(token(), expr());
+                case LOGICAL:
+                    return new Expr.Logical(expr(), token(), expr());
+                case CONDITIONAL:
+                    return new Expr.Conditional(expr(), expr(), expr());
+                case CALL: {
+                    Expr callee = expr();
+                    Token paren = token();
+                    int count = count();
+                    List<Expr> args = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        args.add(expr());
+                    }
+                    return new Expr.Call(callee, paren, args);
+                }
+                default:
+                    throw corrupt();
+            }
+        }
+
+        private Token token() throws IOException {
+            int type = varint();
+            if (type < 0 || type >= TOKEN_TYPES.length) {
+                throw corrupt();
+            }
+            String lexeme = string();
+            int delta = varint();
+            line += (delta >>> 1) ^ -(delta & 1);
+            return new Token(TOKEN_TYPES[type], lexeme, null, line, varint());
+        }
+
+        private String string() throws IOException {
+            int index = varint();
+            if (index != 0) {
+                if (index < 0 || index > strings.size()) {
+                    throw corrupt();
+                }
+                return strings.get(index - 1);
+            }
+            int length = count();
+            String s = new String(bytes, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            strings.add(s);
+            return s;
+        }
+
+        // A length, which cannot exceed what is left of the file; every
+        // element takes at least a byte.
+        private int count() throws IOException {
+            int count = varint();
+            if (count < 0 || count > bytes.length - pos) {
+                throw corrupt();
+            }
+            return count;
+        }
+
+        private int varint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = read();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw corrupt();
+        }
+
+        private int readInt() throws IOException {
+            return read() << 24 | read() << 16 | read() << 8 | read();
+        }
+
+        private int read() throws IOException {
+            if (pos == bytes.length) {
+                throw corrupt();
+            }
+            return bytes[pos++] & 0xFF;
+        }
+
+        private static IOException corrupt() {
+            return new IOException("corrupt cache entry");
+        }
+    }
+}
@@ -5,46 +5,152 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.List;
 
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
-
-import simplf.parser.simplfLexer;
-import simplf.parser.simplfParser;
-
 public class Simplf {
     static boolean hadError = false;
     static boolean hadRuntimeError = false;
-    private static final Interpreter interpreter = new Interpreter();
+    private static Engine engine = new Interpreter();
+    private static boolean pratt = false;
+    private static boolean stream = false;
+    private static ScriptCache cache = null;
 
     public static void main(String args[]) throws IOException {
-        if (args.length > 1) {
-            System.exit(64);
-        } else if (args.length == 1) {
-            runFile(args[0]);
-        } else {
-            runPrompt();
+        String path = null;
+        int flushBytes = Output.DEFAULT_FLUSH_BYTES;
+        long flushMillis = Output.DEFAULT_FLUSH_MILLIS;
+        boolean flushConfigured = false;
+        boolean cached = false;
+        Path cacheDir = ScriptCache.defaultDir();
+        long cacheLimit = ScriptCache.DEFAULT_LIMIT;
+        for (String arg : args) {
+            if (arg.matches("--flush-bytes=[1-9][0-9]{0,7}")) {
+                // Print output is written once this much is buffered...
+                flushBytes = Integer.parseInt(arg.substring("--flush-bytes=".length()));
+                flushConfigured = true;
+            } else if (arg.matches("--flush-ms=[0-9]{1,7}")) {
+                // ...or once it has waited this long; 0 writes every line.
+                flushMillis = Long.parseLong(arg.substring("--flush-ms=".length()));
+                flushConfigured = true;
+            } else if (arg.equals("--ic-stats")) {
+                // Call site cache counts go to stderr on exit.
+                CallCache.recordSites = true;
+            } else if (arg.equals("--pratt")) {
+                // Parse with PrattParser instead of the ANTLR grammar.
+                pratt = true;
+            } else if (arg.equals("--stream")) {
+                // Run each top-level declaration as soon as PrattParser has it.
+                pratt = true;
+                stream = true;
+            } else if (arg.equals("--cache")) {
+                // Run files from ScriptCache when their source is unchanged.
+                cached = true;
+            } else if (arg.startsWith("--cache-dir=") && arg.length() > "--cache-dir=".length()) {
+                cached = true;
+                cacheDir = Paths.get(arg.substring("--cache-dir=".length()));
+            } else if (arg.matches("--cache-limit=[0-9]{1,6}")) {
+                // In megabytes; bounds the size of the cache directory.
+                cacheLimit = Long.parseLong(arg.substring("--cache-limit=".length())) << 20;
+            } else if (arg.equals("--phase-times")) {
+                // Time spent lexing, parsing, desugaring, ... goes to stderr on exit.
+                Phases.enabled = true;
+            } else if (arg.equals("--specialize")) {
+                engine = new Interpreter(true, false);
+            } else if (arg.equals("--jit")) {
+                engine = new Interpreter(false, true);
+            } else if (arg.equals("--closures")) {
+                engine = new ClosureCompiler();
+            } else if (arg.equals("--nanbox")) {
+                engine = new NanBoxCompiler();
+            } else if (arg.startsWith("--") || path != null) {
+                System.exit(64);
+            } else {
+                path = arg;
+            }
         }
-    }
 
-    private static void runFile(String path) throws IOException {
-        byte[] bytes = Files.readAllBytes(Paths.get(path));
-        run(new String(bytes, Charset.defaultCharset()));
+        if (cached) {
+            cache = new ScriptCache(cacheDir, cacheLimit);
+        }
+        if (flushConfigured) {
+            Output.configure(flushBytes, flushMillis);
+        }
+
+        try {
+            if (path != null) {
+                runFile(path);
+            } else {
+                runPrompt();
+            }
+        } finally {
+            Output.flush();
+            if (CallCache.recordSites) {
+                CallCache.report(System.err);
+            }
+            if (Phases.enabled) {
+                Phases.report(System.err);
+            }
+        }
         if (hadError)
             System.exit(65);
         if (hadRuntimeError)
             System.exit(70);
     }
 
+    private static void runFile(String path) throws IOException {
+        // A streamed file runs as it is parsed, so there is no program to
+        // cache.
+        if (cache != null && !stream) {
+            runCached(Paths.get(path));
+            return;
+        }
+        if (pratt) {
+            // PrattParser scans the file's pages in place.
+            run(MappedSource.map(Paths.get(path), Charset.defaultCharset()));
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(Paths.get(path));
+        run(new String(bytes, Charset.defaultCharset()));
+    }
+
+    // On a hit the program runs as it was stored, without touching either
+    // front end. On a miss the file is parsed as usual and, without syntax
+    // errors, stored before it runs.
+    private static void runCached(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        Charset charset = Charset.defaultCharset();
+        Path entry = cache.entry(bytes, charset, pratt ? "pratt" : "antlr");
+        if (entry == null) {
+            run(new String(bytes, charset));
+            return;
+        }
+        long start = Phases.start();
+        List<Stmt> program = cache.load(entry);
+        Phases.end(Phases.Phase.CACHE_LOAD, start);
+        if (program == null) {
+            String source = new String(bytes, charset);
+            List<Stmt> statements = pratt ? parsePratt(source) : parse(source);
+            if (hadError) {
+                return;
+            }
+            program = prepare(statements);
+            start = Phases.start();
+            cache.store(entry, program);
+            Phases.end(Phases.Phase.CACHE_STORE, start);
+        }
+        interpret(program);
+    }
+
     private static void runPrompt() throws IOException {
         InputStreamReader input = new InputStreamReader(System.in);
         BufferedReader br = new BufferedReader(input);
 
         for (;;) {
-            System.out.print("> ");
+            Output.print("> ");
+            Output.flush();
             String line = br.readLine();
             if (line == null)
                 break;
@@ -55,24 +161,77 @@ public class Simplf {
     }
 
 
-    private static void run(String source) {
-        CharStream input = CharStreams.fromString(source);
-        simplfLexer lex = new simplf.parser.simplfLexer(input);
-        CommonTokenStream tokens = new CommonTokenStream(lex);
-        simplfParser parser = new simplfParser(tokens);
+    private static void run(CharSequence source) {
+        if (stream) {
+            runStreaming(source);
+            return;
+        }
 
-        List<Stmt> statements = parser.program().val;
+        List<Stmt> statements = pratt ? parsePratt(source) : parse(source.toString());
+        if (hadError) {
+            return;
+        }
 
         //System.out.println("Original program:");
         //print_program(statements);
 
-        List<Stmt> desugared_statements = 
-            (new Desugar()).desugar(statements);
+        execute(statements);
+    }
+
+    // Parses, desugars and runs one top-level declaration at a time, so
+    // output starts before the rest of the input is parsed and no statement
+    // outlives its execution except through the functions it defined. The
+    // first runtime error ends the run, as it does otherwise. A syntax error
+    // only stops execution: the statements before it have already run, and
+    // the rest is still parsed to report every error.
+    private static void runStreaming(CharSequence source) {
+        PrattParser parser = new PrattParser(source);
+        while (!hadRuntimeError) {
+            long start = Phases.start();
+            Stmt stmt = parser.next();
+            Phases.end(Phases.Phase.PARSE_PRATT, start);
+            if (stmt == null) {
+                return;
+            }
+            if (!hadError) {
+                execute(Collections.singletonList(stmt));
+            }
+        }
+    }
+
+    private static List<Stmt> parsePratt(CharSequence source) {
+        long start = Phases.start();
+        List<Stmt> statements = new PrattParser(source).parse();
+        Phases.end(Phases.Phase.PARSE_PRATT, start);
+        return statements;
+    }
+
+    private static void execute(List<Stmt> statements) {
+        interpret(prepare(statements));
+    }
+
+    private static List<Stmt> prepare(List<Stmt> statements) {
+        long start = Phases.start();
+        List<Stmt> desugared_statements = (new Desugar()).desugar(statements);
+        Phases.end(Phases.Phase.DESUGAR, start);
+        start = Phases.start();
+        desugared_statements = (new Optimizer()).optimize(desugared_statements);
+        Phases.end(Phases.Phase.OPTIMIZE, start);
 
         //System.out.println("Desugared program:");
         //print_program(desugared_statements);
 
-        interpreter.interpret(desugared_statements);
+        return desugared_statements;
+    }
+
+    private static void interpret(List<Stmt> program) {
+        long start = Phases.start();
+        engine.interpret(program);
+        Phases.end(Phases.Phase.RUN, start);
+    }
+
+    static List<Stmt> parse(String source) {
+        return AntlrParser.parse(source);
     }
 
     static void error(int line, int col, String message) {
@@ -80,6 +239,7 @@ public class Simplf {
     }
 
     private static void report(int line, int col, String where, String message) {
+        Output.flush();
         System.err.println("[line " + line + ", col " + col + "] Error" + where + ":" + message);
         hadError = true;
     }
@@ -93,6 +253,7 @@ public class Simplf {
     }
 
     public static void runtimeError(RuntimeError error) {
+        Output.flush();
         System.err.println(error.getMessage() + ": [line " + error.token.line + " col " + error.token.col + "]");
         hadRuntimeError = true;
     }
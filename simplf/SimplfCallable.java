@@ -1,8 +1,31 @@
 package simplf; 
 
-import java.util.List;
-
+// Call sites check arity() and then use the entry point for their argument
+// count, so up to four arguments travel without an array or list. The
+// defaults send everything to call(), which takes any number.
 interface SimplfCallable {
 
-    Object call(Interpreter interpreter, List<Object> args);
-}
\ No newline at end of file
+    int arity();
+
+    Object call(Interpreter interpreter, Object... args);
+
+    default Object call0(Interpreter interpreter) {
+        return call(interpreter);
+    }
+
+    default Object call1(Interpreter interpreter, Object a0) {
+        return call(interpreter, a0);
+    }
+
+    default Object call2(Interpreter interpreter, Object a0, Object a1) {
+        return call(interpreter, a0, a1);
+    }
+
+    default Object call3(Interpreter interpreter, Object a0, Object a1, Object a2) {
+        return call(interpreter, a0, a1, a2);
+    }
+
+    default Object call4(Interpreter interpreter, Object a0, Object a1, Object a2, Object a3) {
+        return call(interpreter, a0, a1, a2, a3);
+    }
+}
@@ -1,31 +1,106 @@
 package simplf;
 
-import java.util.List;
-
 class SimplfFunction implements SimplfCallable {
     private final Stmt.Function declaration;
-    private Environment closure;
+    private final Environment closure;
 
     SimplfFunction(Stmt.Function declaration, Environment closure) {
         this.declaration = declaration;
         this.closure = closure;
     }
 
-    public void setClosure(Environment env) {
-        this.closure = env;
+    @Override
+    public int arity() {
+        return declaration.params.size();
+    }
+
+    @Override
+    public Object call0(Interpreter interpreter) {
+        return run(interpreter, newFrame());
+    }
+
+    @Override
+    public Object call1(Interpreter interpreter, Object a0) {
+        Environment frame = newFrame();
+        frame.define(0, a0);
+        return run(interpreter, frame);
     }
 
     @Override
-    public Object call(Interpreter interpreter, List<Object> args) {
-        Environment localEnv = new Environment(closure);
+    public Object call2(Interpreter interpreter, Object a0, Object a1) {
+        Environment frame = newFrame();
+        frame.define(0, a0);
+        frame.define(1, a1);
+        return run(interpreter, frame);
+    }
+
+    @Override
+    public Object call3(Interpreter interpreter, Object a0, Object a1, Object a2) {
+        Environment frame = newFrame();
+        frame.define(0, a0);
+        frame.define(1, a1);
+        frame.define(2, a2);
+        return run(interpreter, frame);
+    }
+
+    @Override
+    public Object call4(Interpreter interpreter, Object a0, Object a1, Object a2, Object a3) {
+        Environment frame = newFrame();
+        frame.define(0, a0);
+        frame.define(1, a1);
+        frame.define(2, a2);
+        frame.define(3, a3);
+        return run(interpreter, frame);
+    }
 
-        for (int i = 0; i < declaration.params.size(); i++) {
-            Token param = declaration.params.get(i);
-            localEnv = localEnv.define(param, param.lexeme, args.get(i));
+    @Override
+    public Object call(Interpreter interpreter, Object... args) {
+        return run(interpreter, frame(args));
+    }
+
+    private Environment newFrame() {
+        return new Environment(declaration.frameSize, closure);
+    }
+
+    private Environment frame(Object[] args) {
+        Environment frame = newFrame();
+        for (int i = 0; i < args.length; i++) {
+            frame.define(i, args[i]);
+        }
+        return frame;
+    }
+
+    // Tail calls made by the body come back through the interpreter and run
+    // here in a loop, so recursion in tail position uses no Java stack.
+    private Object run(Interpreter interpreter, Environment frame) {
+        SimplfFunction function = this;
+        boolean dropResult = false;
+        while (true) {
+            Object result = function.invoke(interpreter, frame);
+            Interpreter.TailCall tail = interpreter.takeTailCall();
+            if (tail == null) {
+                return dropResult ? null : result;
+            }
+            function = tail.function;
+            frame = function.frame(tail.args);
+            dropResult |= tail.dropsResult;
+        }
+    }
+
+    // Runs the body in a frame whose parameter slots are already filled.
+    private Object invoke(Interpreter interpreter, Environment frame) {
+        if (interpreter.jit) {
+            JvmCompiler.Body compiled = declaration.compiled;
+            if (compiled == null && ++declaration.calls == JvmCompiler.THRESHOLD) {
+                compiled = declaration.compiled = JvmCompiler.compile(declaration);
+            }
+            if (compiled != null) {
+                return compiled.call(interpreter, closure, frame);
+            }
         }
 
         Environment previous = interpreter.getEnvironment();
-        interpreter.setEnvironment(localEnv);
+        interpreter.setEnvironment(frame);
         Object result = null;
 
         try {
@@ -20,6 +20,8 @@ public abstract class Stmt {
 
         T visitForStmt(For stmt);
 
+        T visitCountedLoopStmt(CountedLoop stmt);
+
         T visitFunctionStmt(Function stmt);
 
     }
@@ -53,6 +55,8 @@ public abstract class Stmt {
     public static class Var extends Stmt {
         final Token name;
         final Expr initializer;
+        int slot;
+        boolean global;
 
         public Var(Token name, Expr initializer) {
             this.name = name;
@@ -67,6 +71,9 @@ public abstract class Stmt {
 
     public static class Block extends Stmt {
         final List<Stmt> statements;
+        int frameSize;
+        // Set by the Resolver when the block runs in the enclosing frame.
+        boolean merged;
 
         public Block(List<Stmt> statements) {
             this.statements = statements;
@@ -123,10 +130,40 @@ public abstract class Stmt {
         }
     }
 
+    // Desugared `for (i = start; i < limit; i = i + step) body` with a number
+    // literal as the step, and any of < <= > >= as the test. Unlike the
+    // Block/While desugaring it introduces no scopes, so engines can run it
+    // without allocating frames.
+    public static class CountedLoop extends Stmt {
+        final Expr.Assign init;
+        final Expr.Binary cond;
+        final Expr.Assign incr;
+        final Stmt body;
+
+        public CountedLoop(Expr.Assign init, Expr.Binary cond, Expr.Assign incr, Stmt body) {
+            this.init = init;
+            this.cond = cond;
+            this.incr = incr;
+            this.body = body;
+        }
+
+        double step() {
+            return (double) ((Expr.Literal) ((Expr.Binary) incr.value).right).val;
+        }
+
+        <T> T accept(Visitor<T> vis) {
+            return vis.visitCountedLoopStmt(this);
+        }
+    }
+
     public static class Function extends Stmt {
         Token name;
         List<Token> params;
         List<Stmt> body;
+        int slot, frameSize;
+        boolean global;
+        int calls;
+        JvmCompiler.Body compiled;
 
         public Function(Token name, List<Token> params, List<Stmt> body) {
             this.name = name;
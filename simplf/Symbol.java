@@ -0,0 +1,94 @@
+package simplf;
+
+// An interned identifier name. Every occurrence of a name in every parse
+// maps to the same Symbol, so the resolver and the desugarer compare names
+// with == and hash them with a code computed once. Symbols are never
+// released; a program only has so many names. The parser runs on one
+// thread.
+//
+// The table is keyed by content, so Scanner can intern a name straight from
+// its offsets in the source: only the first occurrence of a name makes a
+// String.
+public final class Symbol {
+    private static Symbol[] table = new Symbol[256];
+    private static int count;
+
+    final String name;
+    private final int hash;
+    // Set by Scanner for the names that are keywords.
+    TokenType keyword;
+
+    private Symbol(String name, int hash) {
+        this.name = name;
+        this.hash = hash;
+    }
+
+    public static Symbol intern(String name) {
+        return intern(name, 0, name.length());
+    }
+
+    static Symbol intern(CharSequence source, int start, int end) {
+        // The same hash as String.hashCode.
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        int mask = table.length - 1;
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+            Symbol symbol = table[i];
+            if (symbol == null) {
+                symbol = new Symbol(source.subSequence(start, end).toString(), hash);
+                table[i] = symbol;
+                if (++count * 2 > table.length) {
+                    rehash();
+                }
+                return symbol;
+            }
+            if (symbol.hash == hash && symbol.is(source, start, end)) {
+                return symbol;
+            }
+        }
+    }
+
+    private boolean is(CharSequence source, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != source.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void rehash() {
+        Symbol[] old = table;
+        table = new Symbol[old.length * 2];
+        int mask = table.length - 1;
+        for (Symbol symbol : old) {
+            if (symbol != null) {
+                int i = spread(symbol.hash) & mask;
+                while (table[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = symbol;
+            }
+        }
+    }
+
+    // Equality is identity.
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
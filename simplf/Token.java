@@ -5,6 +5,8 @@ public class Token {
     final int line, col;
     final String lexeme;
     final Object literal;
+    // The interned name of an IDENTIFIER, null for other tokens.
+    final Symbol symbol;
 
     public Token(TokenType type, String lexeme, Object literal, int line, int col) {
         this.type = type;
@@ -12,6 +14,16 @@ public class Token {
         this.literal = literal;
         this.line = line;
         this.col = col;
+        this.symbol = type == TokenType.IDENTIFIER ? Symbol.intern(lexeme) : null;
+    }
+
+    public Token(Symbol name, int line, int col) {
+        this.type = TokenType.IDENTIFIER;
+        this.lexeme = name.name;
+        this.literal = null;
+        this.line = line;
+        this.col = col;
+        this.symbol = name;
     }
 
     public String toString() {
@@ -34,8 +34,8 @@ statement returns [Stmt val] :  exprStatement                           {$val =
 
 block returns [List<Stmt> val] : LEFT_BRACE program RIGHT_BRACE          {$val = $program.val;};
 
-ifStatement returns [Stmt val] :    IF LEFT_PAREN expression RIGHT_PAREN statement                          {$val = new Stmt.If($expression.val, $statement.val, null);}
-                               |    IF LEFT_PAREN expression RIGHT_PAREN s1=statement ELSE s2=statement     {$val = new Stmt.If($expression.val, $s1.val, $s2.val);};
+ifStatement returns [Stmt val] locals [Stmt elseBranch = null] :
+    IF LEFT_PAREN expression RIGHT_PAREN s1=statement (ELSE s2=statement {$elseBranch = $s2.val;})? {$val = new Stmt.If($expression.val, $s1.val, $elseBranch);};
 
 whileStatement returns [Stmt val] :    WHILE LEFT_PAREN expression RIGHT_PAREN statement {
     $val = new Stmt.While($expression.val, $statement.val);
@@ -72,7 +72,7 @@ expression returns [Expr val] locals [simplf.Token op, List<Expr> args] : litera
            |                    e1=expression (equal_equal {$op = $equal_equal.val;} | bang_equal {$op = $bang_equal.val;}) e2=expression {
                                     $val = new Expr.Binary($e1.val, $op, $e2.val);
                                 }
-           |                    expression and expression {$val = new Expr.Logical($e1.val, $and.val, $e2.val);}
+           |                    e1=expression and e2=expression {$val = new Expr.Logical($e1.val, $and.val, $e2.val);}
            |                    e1=expression or e2=expression {$val = new Expr.Logical($e1.val, $or.val, $e2.val);}
            |                    id EQUAL expression {$val = new Expr.Assign($id.val, $expression.val);}
            |                    LEFT_PAREN expression RIGHT_PAREN {$val = new Expr.Grouping($expression.val);};
@@ -84,7 +84,7 @@ literal returns [Object val]:   STRINGLIT  {$val = $STRINGLIT.text.substring(1,$
                             |   NIL     {$val = null;};
 
 
-id returns [simplf.Token val]: ident=IDENTIFIER {$val = new simplf.Token(simplf.TokenType.IDENTIFIER, $ident.text, $ident.text, $ident.line, $ident.pos);};
+id returns [simplf.Token val]: ident=IDENTIFIER {$val = new simplf.Token(simplf.Symbol.intern($ident.text), $ident.line, $ident.pos);};
 
 or returns [simplf.Token val]: OR {$val = new simplf.Token(simplf.TokenType.OR, $OR.text, null, $OR.line, $OR.pos);};
 and returns [simplf.Token val]: AND {$val = new simplf.Token(simplf.TokenType.AND, $AND.text, null, $AND.line, $AND.pos);};
@@ -613,8 +613,8 @@ public class simplfParser extends Parser {
 	@SuppressWarnings("CheckReturnValue")
 	public static class IfStatementContext extends ParserRuleContext {
 		public Stmt val;
+		public Stmt elseBranch = null;
 		public ExpressionContext expression;
-		public StatementContext statement;
 		public StatementContext s1;
 		public StatementContext s2;
 		public TerminalNode IF() { return getToken(simplfParser.IF, 0); }
@@ -640,46 +640,33 @@ public class simplfParser extends Parser {
 		IfStatementContext _localctx = new IfStatementContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_ifStatement);
 		try {
-			setState(164);
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(148);
+			match(IF);
+			setState(149);
+			match(LEFT_PAREN);
+			setState(150);
+			((IfStatementContext)_localctx).expression = expression(0);
+			setState(151);
+			match(RIGHT_PAREN);
+			setState(152);
+			((IfStatementContext)_localctx).s1 = statement();
+			setState(157);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 			case 1:
-				enterOuterAlt(_localctx, 1);
 				{
-				setState(148);
-				match(IF);
-				setState(149);
-				match(LEFT_PAREN);
-				setState(150);
-				((IfStatementContext)_localctx).expression = expression(0);
-				setState(151);
-				match(RIGHT_PAREN);
-				setState(152);
-				((IfStatementContext)_localctx).statement = statement();
-				((IfStatementContext)_localctx).val =  new Stmt.If(((IfStatementContext)_localctx).expression.val, ((IfStatementContext)_localctx).statement.val, null);
-				}
-				break;
-			case 2:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(155);
-				match(IF);
-				setState(156);
-				match(LEFT_PAREN);
-				setState(157);
-				((IfStatementContext)_localctx).expression = expression(0);
-				setState(158);
-				match(RIGHT_PAREN);
-				setState(159);
-				((IfStatementContext)_localctx).s1 = statement();
-				setState(160);
+				setState(153);
 				match(ELSE);
-				setState(161);
+				setState(154);
 				((IfStatementContext)_localctx).s2 = statement();
-				((IfStatementContext)_localctx).val =  new Stmt.If(((IfStatementContext)_localctx).expression.val, ((IfStatementContext)_localctx).s1.val, ((IfStatementContext)_localctx).s2.val);
+				((IfStatementContext)_localctx).elseBranch =  ((IfStatementContext)_localctx).s2.val;
 				}
 				break;
 			}
+			((IfStatementContext)_localctx).val =  new Stmt.If(((IfStatementContext)_localctx).expression.val, ((IfStatementContext)_localctx).s1.val, _localctx.elseBranch);
+			}
 		}
 		catch (RecognitionException re) {
 			_localctx.exception = re;
@@ -718,15 +705,15 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(166);
+			setState(161);
 			match(WHILE);
-			setState(167);
+			setState(162);
 			match(LEFT_PAREN);
-			setState(168);
+			setState(163);
 			((WhileStatementContext)_localctx).expression = expression(0);
-			setState(169);
+			setState(164);
 			match(RIGHT_PAREN);
-			setState(170);
+			setState(165);
 			((WhileStatementContext)_localctx).statement = statement();
 
 			    ((WhileStatementContext)_localctx).val =  new Stmt.While(((WhileStatementContext)_localctx).expression.val, ((WhileStatementContext)_localctx).statement.val);
@@ -779,23 +766,23 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(173);
+			setState(168);
 			match(FOR);
-			setState(174);
+			setState(169);
 			match(LEFT_PAREN);
-			setState(175);
+			setState(170);
 			((ForStatementContext)_localctx).init = expression(0);
-			setState(176);
+			setState(171);
 			match(SEMICOLON);
-			setState(177);
+			setState(172);
 			((ForStatementContext)_localctx).cond = expression(0);
-			setState(178);
+			setState(173);
 			match(SEMICOLON);
-			setState(179);
+			setState(174);
 			((ForStatementContext)_localctx).update = expression(0);
-			setState(180);
+			setState(175);
 			match(RIGHT_PAREN);
-			setState(181);
+			setState(176);
 			((ForStatementContext)_localctx).statement = statement();
 
 			    ((ForStatementContext)_localctx).val =  new Stmt.For(((ForStatementContext)_localctx).init.val, ((ForStatementContext)_localctx).cond.val, ((ForStatementContext)_localctx).update.val, ((ForStatementContext)_localctx).statement.val);
@@ -833,9 +820,9 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(184);
+			setState(179);
 			((ExprStatementContext)_localctx).expression = expression(0);
-			setState(185);
+			setState(180);
 			match(SEMICOLON);
 			((ExprStatementContext)_localctx).val =  new Stmt.Expression(((ExprStatementContext)_localctx).expression.val);
 			}
@@ -872,11 +859,11 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(188);
+			setState(183);
 			match(PRINT);
-			setState(189);
+			setState(184);
 			((PrintStatementContext)_localctx).expression = expression(0);
-			setState(190);
+			setState(185);
 			match(SEMICOLON);
 			((PrintStatementContext)_localctx).val =  new Stmt.Print(((PrintStatementContext)_localctx).expression.val);
 			}
@@ -920,23 +907,23 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(193);
+			setState(188);
 			((ArgumentsContext)_localctx).arg1 = expression(0);
 			_localctx.val.add(((ArgumentsContext)_localctx).arg1.val);
-			setState(201);
+			setState(196);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(195);
+				setState(190);
 				match(COMMA);
-				setState(196);
+				setState(191);
 				((ArgumentsContext)_localctx).argi = expression(0);
 				_localctx.val.add(((ArgumentsContext)_localctx).argi.val);
 				}
 				}
-				setState(203);
+				setState(198);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1059,38 +1046,38 @@ public class simplfParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(232);
+			setState(227);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
 			case 1:
 				{
-				setState(205);
+				setState(200);
 				((ExpressionContext)_localctx).literal = literal();
 				((ExpressionContext)_localctx).val =  new Expr.Literal(((ExpressionContext)_localctx).literal.val);
 				}
 				break;
 			case 2:
 				{
-				setState(208);
+				setState(203);
 				((ExpressionContext)_localctx).id = id();
 				 ((ExpressionContext)_localctx).val =  new Expr.Variable(((ExpressionContext)_localctx).id.val); 
 				}
 				break;
 			case 3:
 				{
-				setState(217);
+				setState(212);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case MINUS:
 					{
-					setState(211);
+					setState(206);
 					((ExpressionContext)_localctx).minus = minus();
 					((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).minus.val;
 					}
 					break;
 				case BANG:
 					{
-					setState(214);
+					setState(209);
 					((ExpressionContext)_localctx).bang = bang();
 					((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).bang.val;
 					}
@@ -1098,7 +1085,7 @@ public class simplfParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(219);
+				setState(214);
 				((ExpressionContext)_localctx).expression = expression(9);
 
 				                                    ((ExpressionContext)_localctx).val =  new Expr.Unary(_localctx.op, ((ExpressionContext)_localctx).expression.val);
@@ -1107,29 +1094,29 @@ public class simplfParser extends Parser {
 				break;
 			case 4:
 				{
-				setState(222);
+				setState(217);
 				((ExpressionContext)_localctx).id = id();
-				setState(223);
+				setState(218);
 				match(EQUAL);
-				setState(224);
+				setState(219);
 				((ExpressionContext)_localctx).expression = expression(2);
 				((ExpressionContext)_localctx).val =  new Expr.Assign(((ExpressionContext)_localctx).id.val, ((ExpressionContext)_localctx).expression.val);
 				}
 				break;
 			case 5:
 				{
-				setState(227);
+				setState(222);
 				match(LEFT_PAREN);
-				setState(228);
+				setState(223);
 				((ExpressionContext)_localctx).expression = expression(0);
-				setState(229);
+				setState(224);
 				match(RIGHT_PAREN);
 				((ExpressionContext)_localctx).val =  new Expr.Grouping(((ExpressionContext)_localctx).expression.val);
 				}
 				break;
 			}
 			_ctx.stop = _input.LT(-1);
-			setState(311);
+			setState(306);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
@@ -1137,7 +1124,7 @@ public class simplfParser extends Parser {
 					if ( _parseListeners!=null ) triggerExitRuleEvent();
 					_prevctx = _localctx;
 					{
-					setState(309);
+					setState(304);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
 					case 1:
@@ -1145,21 +1132,21 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(234);
+						setState(229);
 						if (!(precpred(_ctx, 8))) throw new FailedPredicateException(this, "precpred(_ctx, 8)");
-						setState(241);
+						setState(236);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
 						case SLASH:
 							{
-							setState(235);
+							setState(230);
 							((ExpressionContext)_localctx).slash = slash();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).slash.val;
 							}
 							break;
 						case STAR:
 							{
-							setState(238);
+							setState(233);
 							((ExpressionContext)_localctx).star = star();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).star.val;
 							}
@@ -1167,7 +1154,7 @@ public class simplfParser extends Parser {
 						default:
 							throw new NoViableAltException(this);
 						}
-						setState(243);
+						setState(238);
 						((ExpressionContext)_localctx).e2 = ((ExpressionContext)_localctx).expression = expression(9);
 
 						                                              ((ExpressionContext)_localctx).val =  new Expr.Binary(((ExpressionContext)_localctx).e1.val, _localctx.op, ((ExpressionContext)_localctx).e2.val);
@@ -1179,21 +1166,21 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(246);
+						setState(241);
 						if (!(precpred(_ctx, 7))) throw new FailedPredicateException(this, "precpred(_ctx, 7)");
-						setState(253);
+						setState(248);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
 						case PLUS:
 							{
-							setState(247);
+							setState(242);
 							((ExpressionContext)_localctx).plus = plus();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).plus.val;
 							}
 							break;
 						case MINUS:
 							{
-							setState(250);
+							setState(245);
 							((ExpressionContext)_localctx).minus = minus();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).minus.val;
 							}
@@ -1201,7 +1188,7 @@ public class simplfParser extends Parser {
 						default:
 							throw new NoViableAltException(this);
 						}
-						setState(255);
+						setState(250);
 						((ExpressionContext)_localctx).e2 = ((ExpressionContext)_localctx).expression = expression(8);
 
 						                                              ((ExpressionContext)_localctx).val =  new Expr.Binary(((ExpressionContext)_localctx).e1.val, _localctx.op, ((ExpressionContext)_localctx).e2.val);
@@ -1213,35 +1200,35 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(258);
+						setState(253);
 						if (!(precpred(_ctx, 6))) throw new FailedPredicateException(this, "precpred(_ctx, 6)");
-						setState(271);
+						setState(266);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
 						case GREATER:
 							{
-							setState(259);
+							setState(254);
 							((ExpressionContext)_localctx).greater = greater();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).greater.val;
 							}
 							break;
 						case GREATER_EQUAL:
 							{
-							setState(262);
+							setState(257);
 							((ExpressionContext)_localctx).greater_equal = greater_equal();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).greater_equal.val;
 							}
 							break;
 						case LESS:
 							{
-							setState(265);
+							setState(260);
 							((ExpressionContext)_localctx).less = less();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).less.val;
 							}
 							break;
 						case LESS_EQUAL:
 							{
-							setState(268);
+							setState(263);
 							((ExpressionContext)_localctx).less_equal = less_equal();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).less_equal.val;
 							}
@@ -1249,7 +1236,7 @@ public class simplfParser extends Parser {
 						default:
 							throw new NoViableAltException(this);
 						}
-						setState(273);
+						setState(268);
 						((ExpressionContext)_localctx).e2 = ((ExpressionContext)_localctx).expression = expression(7);
 
 						                                              ((ExpressionContext)_localctx).val =  new Expr.Binary(((ExpressionContext)_localctx).e1.val, _localctx.op, ((ExpressionContext)_localctx).e2.val);
@@ -1261,21 +1248,21 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(276);
+						setState(271);
 						if (!(precpred(_ctx, 5))) throw new FailedPredicateException(this, "precpred(_ctx, 5)");
-						setState(283);
+						setState(278);
 						_errHandler.sync(this);
 						switch (_input.LA(1)) {
 						case EQUAL_EQUAL:
 							{
-							setState(277);
+							setState(272);
 							((ExpressionContext)_localctx).equal_equal = equal_equal();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).equal_equal.val;
 							}
 							break;
 						case BANG_EQUAL:
 							{
-							setState(280);
+							setState(275);
 							((ExpressionContext)_localctx).bang_equal = bang_equal();
 							((ExpressionContext)_localctx).op =  ((ExpressionContext)_localctx).bang_equal.val;
 							}
@@ -1283,7 +1270,7 @@ public class simplfParser extends Parser {
 						default:
 							throw new NoViableAltException(this);
 						}
-						setState(285);
+						setState(280);
 						((ExpressionContext)_localctx).e2 = ((ExpressionContext)_localctx).expression = expression(6);
 
 						                                              ((ExpressionContext)_localctx).val =  new Expr.Binary(((ExpressionContext)_localctx).e1.val, _localctx.op, ((ExpressionContext)_localctx).e2.val);
@@ -1293,13 +1280,14 @@ public class simplfParser extends Parser {
 					case 5:
 						{
 						_localctx = new ExpressionContext(_parentctx, _parentState);
+						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(288);
+						setState(283);
 						if (!(precpred(_ctx, 4))) throw new FailedPredicateException(this, "precpred(_ctx, 4)");
-						setState(289);
+						setState(284);
 						((ExpressionContext)_localctx).and = and();
-						setState(290);
-						((ExpressionContext)_localctx).expression = expression(5);
+						setState(285);
+						((ExpressionContext)_localctx).e2 = ((ExpressionContext)_localctx).expression = expression(5);
 						((ExpressionContext)_localctx).val =  new Expr.Logical(((ExpressionContext)_localctx).e1.val, ((ExpressionContext)_localctx).and.val, ((ExpressionContext)_localctx).e2.val);
 						}
 						break;
@@ -1308,11 +1296,11 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(293);
+						setState(288);
 						if (!(precpred(_ctx, 3))) throw new FailedPredicateException(this, "precpred(_ctx, 3)");
-						setState(294);
+						setState(289);
 						((ExpressionContext)_localctx).or = or();
-						setState(295);
+						setState(290);
 						((ExpressionContext)_localctx).e2 = ((ExpressionContext)_localctx).expression = expression(4);
 						((ExpressionContext)_localctx).val =  new Expr.Logical(((ExpressionContext)_localctx).e1.val, ((ExpressionContext)_localctx).or.val, ((ExpressionContext)_localctx).e2.val);
 						}
@@ -1322,11 +1310,11 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(298);
+						setState(293);
 						if (!(precpred(_ctx, 11))) throw new FailedPredicateException(this, "precpred(_ctx, 11)");
-						setState(299);
+						setState(294);
 						match(LEFT_PAREN);
-						setState(300);
+						setState(295);
 						((ExpressionContext)_localctx).rparen = rparen();
 						 ((ExpressionContext)_localctx).val =  new Expr.Call(((ExpressionContext)_localctx).e1.val, ((ExpressionContext)_localctx).rparen.val, new ArrayList<>()); 
 						}
@@ -1336,13 +1324,13 @@ public class simplfParser extends Parser {
 						_localctx = new ExpressionContext(_parentctx, _parentState);
 						_localctx.e1 = _prevctx;
 						pushNewRecursionContext(_localctx, _startState, RULE_expression);
-						setState(303);
+						setState(298);
 						if (!(precpred(_ctx, 10))) throw new FailedPredicateException(this, "precpred(_ctx, 10)");
-						setState(304);
+						setState(299);
 						match(LEFT_PAREN);
-						setState(305);
+						setState(300);
 						((ExpressionContext)_localctx).arguments = arguments();
-						setState(306);
+						setState(301);
 						((ExpressionContext)_localctx).rparen = rparen();
 						 ((ExpressionContext)_localctx).val =  new Expr.Call(((ExpressionContext)_localctx).e1.val, ((ExpressionContext)_localctx).rparen.val, ((ExpressionContext)_localctx).arguments.val); 
 						}
@@ -1350,7 +1338,7 @@ public class simplfParser extends Parser {
 					}
 					} 
 				}
-				setState(313);
+				setState(308);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,15,_ctx);
 			}
@@ -1387,13 +1375,13 @@ public class simplfParser extends Parser {
 		LiteralContext _localctx = new LiteralContext(_ctx, getState());
 		enterRule(_localctx, 28, RULE_literal);
 		try {
-			setState(324);
+			setState(319);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case STRINGLIT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(314);
+				setState(309);
 				((LiteralContext)_localctx).STRINGLIT = match(STRINGLIT);
 				((LiteralContext)_localctx).val =  (((LiteralContext)_localctx).STRINGLIT!=null?((LiteralContext)_localctx).STRINGLIT.getText():null).substring(1,(((LiteralContext)_localctx).STRINGLIT!=null?((LiteralContext)_localctx).STRINGLIT.getText():null).length()-1);
 				}
@@ -1401,7 +1389,7 @@ public class simplfParser extends Parser {
 			case NUMBER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(316);
+				setState(311);
 				((LiteralContext)_localctx).NUMBER = match(NUMBER);
 				((LiteralContext)_localctx).val =  (Double) Double.parseDouble((((LiteralContext)_localctx).NUMBER!=null?((LiteralContext)_localctx).NUMBER.getText():null));
 				}
@@ -1409,7 +1397,7 @@ public class simplfParser extends Parser {
 			case TRUE:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(318);
+				setState(313);
 				match(TRUE);
 				((LiteralContext)_localctx).val =  true;
 				}
@@ -1417,7 +1405,7 @@ public class simplfParser extends Parser {
 			case FALSE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(320);
+				setState(315);
 				match(FALSE);
 				((LiteralContext)_localctx).val =  false;
 				}
@@ -1425,7 +1413,7 @@ public class simplfParser extends Parser {
 			case NIL:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(322);
+				setState(317);
 				match(NIL);
 				((LiteralContext)_localctx).val =  null;
 				}
@@ -1462,9 +1450,9 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(326);
+			setState(321);
 			((IdContext)_localctx).ident = match(IDENTIFIER);
-			((IdContext)_localctx).val =  new simplf.Token(simplf.TokenType.IDENTIFIER, (((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getText():null), (((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getText():null), (((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getLine():0), (((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getCharPositionInLine():0));
+			((IdContext)_localctx).val =  new simplf.Token(simplf.Symbol.intern((((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getText():null)), (((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getLine():0), (((IdContext)_localctx).ident!=null?((IdContext)_localctx).ident.getCharPositionInLine():0));
 			}
 		}
 		catch (RecognitionException re) {
@@ -1495,7 +1483,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(329);
+			setState(324);
 			((OrContext)_localctx).OR = match(OR);
 			((OrContext)_localctx).val =  new simplf.Token(simplf.TokenType.OR, (((OrContext)_localctx).OR!=null?((OrContext)_localctx).OR.getText():null), null, (((OrContext)_localctx).OR!=null?((OrContext)_localctx).OR.getLine():0), (((OrContext)_localctx).OR!=null?((OrContext)_localctx).OR.getCharPositionInLine():0));
 			}
@@ -1528,7 +1516,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(332);
+			setState(327);
 			((AndContext)_localctx).AND = match(AND);
 			((AndContext)_localctx).val =  new simplf.Token(simplf.TokenType.AND, (((AndContext)_localctx).AND!=null?((AndContext)_localctx).AND.getText():null), null, (((AndContext)_localctx).AND!=null?((AndContext)_localctx).AND.getLine():0), (((AndContext)_localctx).AND!=null?((AndContext)_localctx).AND.getCharPositionInLine():0));
 			}
@@ -1561,7 +1549,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(335);
+			setState(330);
 			((EqualContext)_localctx).EQUAL = match(EQUAL);
 			((EqualContext)_localctx).val =  new simplf.Token(simplf.TokenType.EQUAL, (((EqualContext)_localctx).EQUAL!=null?((EqualContext)_localctx).EQUAL.getText():null), null, (((EqualContext)_localctx).EQUAL!=null?((EqualContext)_localctx).EQUAL.getLine():0), (((EqualContext)_localctx).EQUAL!=null?((EqualContext)_localctx).EQUAL.getCharPositionInLine():0));
 			}
@@ -1594,7 +1582,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(338);
+			setState(333);
 			((Bang_equalContext)_localctx).BANG_EQUAL = match(BANG_EQUAL);
 			((Bang_equalContext)_localctx).val =  new simplf.Token(simplf.TokenType.BANG_EQUAL, (((Bang_equalContext)_localctx).BANG_EQUAL!=null?((Bang_equalContext)_localctx).BANG_EQUAL.getText():null), null, (((Bang_equalContext)_localctx).BANG_EQUAL!=null?((Bang_equalContext)_localctx).BANG_EQUAL.getLine():0), (((Bang_equalContext)_localctx).BANG_EQUAL!=null?((Bang_equalContext)_localctx).BANG_EQUAL.getCharPositionInLine():0));
 			}
@@ -1627,7 +1615,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(341);
+			setState(336);
 			((Equal_equalContext)_localctx).EQUAL_EQUAL = match(EQUAL_EQUAL);
 			((Equal_equalContext)_localctx).val =  new simplf.Token(simplf.TokenType.EQUAL_EQUAL, (((Equal_equalContext)_localctx).EQUAL_EQUAL!=null?((Equal_equalContext)_localctx).EQUAL_EQUAL.getText():null), null, (((Equal_equalContext)_localctx).EQUAL_EQUAL!=null?((Equal_equalContext)_localctx).EQUAL_EQUAL.getLine():0), (((Equal_equalContext)_localctx).EQUAL_EQUAL!=null?((Equal_equalContext)_localctx).EQUAL_EQUAL.getCharPositionInLine():0));
 			}
@@ -1660,7 +1648,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(344);
+			setState(339);
 			((GreaterContext)_localctx).GREATER = match(GREATER);
 			((GreaterContext)_localctx).val =  new simplf.Token(simplf.TokenType.GREATER, (((GreaterContext)_localctx).GREATER!=null?((GreaterContext)_localctx).GREATER.getText():null), null, (((GreaterContext)_localctx).GREATER!=null?((GreaterContext)_localctx).GREATER.getLine():0), (((GreaterContext)_localctx).GREATER!=null?((GreaterContext)_localctx).GREATER.getCharPositionInLine():0));
 			}
@@ -1693,7 +1681,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(347);
+			setState(342);
 			((Greater_equalContext)_localctx).GREATER_EQUAL = match(GREATER_EQUAL);
 			((Greater_equalContext)_localctx).val =  new simplf.Token(simplf.TokenType.GREATER_EQUAL, (((Greater_equalContext)_localctx).GREATER_EQUAL!=null?((Greater_equalContext)_localctx).GREATER_EQUAL.getText():null), null, (((Greater_equalContext)_localctx).GREATER_EQUAL!=null?((Greater_equalContext)_localctx).GREATER_EQUAL.getLine():0), (((Greater_equalContext)_localctx).GREATER_EQUAL!=null?((Greater_equalContext)_localctx).GREATER_EQUAL.getCharPositionInLine():0));
 			}
@@ -1726,7 +1714,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(350);
+			setState(345);
 			((LessContext)_localctx).LESS = match(LESS);
 			((LessContext)_localctx).val =  new simplf.Token(simplf.TokenType.LESS, (((LessContext)_localctx).LESS!=null?((LessContext)_localctx).LESS.getText():null), null, (((LessContext)_localctx).LESS!=null?((LessContext)_localctx).LESS.getLine():0), (((LessContext)_localctx).LESS!=null?((LessContext)_localctx).LESS.getCharPositionInLine():0));
 			}
@@ -1759,7 +1747,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(353);
+			setState(348);
 			((Less_equalContext)_localctx).LESS_EQUAL = match(LESS_EQUAL);
 			((Less_equalContext)_localctx).val =  new simplf.Token(simplf.TokenType.LESS_EQUAL, (((Less_equalContext)_localctx).LESS_EQUAL!=null?((Less_equalContext)_localctx).LESS_EQUAL.getText():null), null, (((Less_equalContext)_localctx).LESS_EQUAL!=null?((Less_equalContext)_localctx).LESS_EQUAL.getLine():0), (((Less_equalContext)_localctx).LESS_EQUAL!=null?((Less_equalContext)_localctx).LESS_EQUAL.getCharPositionInLine():0));
 			}
@@ -1792,7 +1780,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(356);
+			setState(351);
 			((PlusContext)_localctx).PLUS = match(PLUS);
 			((PlusContext)_localctx).val =  new simplf.Token(simplf.TokenType.PLUS, (((PlusContext)_localctx).PLUS!=null?((PlusContext)_localctx).PLUS.getText():null), null, (((PlusContext)_localctx).PLUS!=null?((PlusContext)_localctx).PLUS.getLine():0), (((PlusContext)_localctx).PLUS!=null?((PlusContext)_localctx).PLUS.getCharPositionInLine():0));
 			}
@@ -1825,7 +1813,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(359);
+			setState(354);
 			((MinusContext)_localctx).MINUS = match(MINUS);
 			((MinusContext)_localctx).val =  new simplf.Token(simplf.TokenType.MINUS, (((MinusContext)_localctx).MINUS!=null?((MinusContext)_localctx).MINUS.getText():null), null, (((MinusContext)_localctx).MINUS!=null?((MinusContext)_localctx).MINUS.getLine():0), (((MinusContext)_localctx).MINUS!=null?((MinusContext)_localctx).MINUS.getCharPositionInLine():0));
 			}
@@ -1858,7 +1846,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(362);
+			setState(357);
 			((SlashContext)_localctx).SLASH = match(SLASH);
 			((SlashContext)_localctx).val =  new simplf.Token(simplf.TokenType.SLASH, (((SlashContext)_localctx).SLASH!=null?((SlashContext)_localctx).SLASH.getText():null), null, (((SlashContext)_localctx).SLASH!=null?((SlashContext)_localctx).SLASH.getLine():0), (((SlashContext)_localctx).SLASH!=null?((SlashContext)_localctx).SLASH.getCharPositionInLine():0));
 			}
@@ -1891,7 +1879,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(365);
+			setState(360);
 			((StarContext)_localctx).STAR = match(STAR);
 			((StarContext)_localctx).val =  new simplf.Token(simplf.TokenType.STAR, (((StarContext)_localctx).STAR!=null?((StarContext)_localctx).STAR.getText():null), null, (((StarContext)_localctx).STAR!=null?((StarContext)_localctx).STAR.getLine():0), (((StarContext)_localctx).STAR!=null?((StarContext)_localctx).STAR.getCharPositionInLine():0));
 			}
@@ -1924,7 +1912,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(368);
+			setState(363);
 			((BangContext)_localctx).BANG = match(BANG);
 			((BangContext)_localctx).val =  new simplf.Token(simplf.TokenType.BANG, (((BangContext)_localctx).BANG!=null?((BangContext)_localctx).BANG.getText():null), null, (((BangContext)_localctx).BANG!=null?((BangContext)_localctx).BANG.getLine():0), (((BangContext)_localctx).BANG!=null?((BangContext)_localctx).BANG.getCharPositionInLine():0));
 			}
@@ -1957,7 +1945,7 @@ public class simplfParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(371);
+			setState(366);
 			((RparenContext)_localctx).RIGHT_PAREN = match(RIGHT_PAREN);
 			((RparenContext)_localctx).val =  new simplf.Token(simplf.TokenType.RIGHT_PAREN, (((RparenContext)_localctx).RIGHT_PAREN!=null?((RparenContext)_localctx).RIGHT_PAREN.getText():null), null, (((RparenContext)_localctx).RIGHT_PAREN!=null?((RparenContext)_localctx).RIGHT_PAREN.getLine():0), (((RparenContext)_localctx).RIGHT_PAREN!=null?((RparenContext)_localctx).RIGHT_PAREN.getCharPositionInLine():0));
 			}
@@ -2003,7 +1991,7 @@ public class simplfParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\u0004\u0001\'\u0177\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
+		"\u0004\u0001\'\u0172\u0002\u0000\u0007\u0000\u0002\u0001\u0007\u0001\u0002"+
 		"\u0002\u0007\u0002\u0002\u0003\u0007\u0003\u0002\u0004\u0007\u0004\u0002"+
 		"\u0005\u0007\u0005\u0002\u0006\u0007\u0006\u0002\u0007\u0007\u0007\u0002"+
 		"\b\u0007\b\u0002\t\u0007\t\u0002\n\u0007\n\u0002\u000b\u0007\u000b\u0002"+
@@ -2028,27 +2016,26 @@ public class simplfParser extends Parser {
 		"\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0001\u0005\u0003\u0005"+
 		"\u008e\b\u0005\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006\u0001\u0006"+
 		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
-		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007"+
-		"\u0001\u0007\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u00a5\b\u0007"+
-		"\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\t\u0001"+
+		"\u0001\u0007\u0001\u0007\u0001\u0007\u0003\u0007\u009e\b\u0007\u0001\u0007"+
+		"\u0001\u0007\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001\b\u0001"+
 		"\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001\t\u0001"+
-		"\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001\u000b"+
-		"\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f\u0001"+
-		"\f\u0005\f\u00c8\b\f\n\f\f\f\u00cb\t\f\u0001\r\u0001\r\u0001\r\u0001\r"+
-		"\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0003\r\u00da\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u00e9\b\r\u0001"+
-		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u00f2\b\r\u0001"+
+		"\t\u0001\t\u0001\n\u0001\n\u0001\n\u0001\n\u0001\u000b\u0001\u000b\u0001"+
+		"\u000b\u0001\u000b\u0001\u000b\u0001\f\u0001\f\u0001\f\u0001\f\u0001\f"+
+		"\u0001\f\u0005\f\u00c3\b\f\n\f\f\f\u00c6\t\f\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0003\r\u00d5\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u00e4\b\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0003\r\u00ed\b\r\u0001"+
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0003\r\u00fe\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0003\r\u00f9\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0003\r\u0110\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0001\r\u0001\r\u0001\r\u0003\r\u011c\b\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0003\r\u010b\b\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
+		"\r\u0001\r\u0001\r\u0001\r\u0003\r\u0117\b\r\u0001\r\u0001\r\u0001\r\u0001"+
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
 		"\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001\r\u0001"+
-		"\r\u0001\r\u0001\r\u0005\r\u0136\b\r\n\r\f\r\u0139\t\r\u0001\u000e\u0001"+
+		"\r\u0001\r\u0001\r\u0005\r\u0131\b\r\n\r\f\r\u0134\t\r\u0001\u000e\u0001"+
 		"\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001\u000e\u0001"+
-		"\u000e\u0001\u000e\u0001\u000e\u0003\u000e\u0145\b\u000e\u0001\u000f\u0001"+
+		"\u000e\u0001\u000e\u0001\u000e\u0003\u000e\u0140\b\u000e\u0001\u000f\u0001"+
 		"\u000f\u0001\u000f\u0001\u0010\u0001\u0010\u0001\u0010\u0001\u0011\u0001"+
 		"\u0011\u0001\u0011\u0001\u0012\u0001\u0012\u0001\u0012\u0001\u0013\u0001"+
 		"\u0013\u0001\u0013\u0001\u0014\u0001\u0014\u0001\u0014\u0001\u0015\u0001"+
@@ -2058,21 +2045,21 @@ public class simplfParser extends Parser {
 		"\u001b\u0001\u001b\u0001\u001c\u0001\u001c\u0001\u001c\u0001\u001d\u0001"+
 		"\u001d\u0001\u001d\u0001\u001e\u0001\u001e\u0001\u001e\u0001\u001e\u0000"+
 		"\u0001\u001a\u001f\u0000\u0002\u0004\u0006\b\n\f\u000e\u0010\u0012\u0014"+
-		"\u0016\u0018\u001a\u001c\u001e \"$&(*,.02468:<\u0000\u0000\u017b\u0000"+
+		"\u0016\u0018\u001a\u001c\u001e \"$&(*,.02468:<\u0000\u0000\u0176\u0000"+
 		"C\u0001\u0000\u0000\u0000\u0002O\u0001\u0000\u0000\u0000\u0004`\u0001"+
 		"\u0000\u0000\u0000\u0006b\u0001\u0000\u0000\u0000\by\u0001\u0000\u0000"+
 		"\u0000\n\u008d\u0001\u0000\u0000\u0000\f\u008f\u0001\u0000\u0000\u0000"+
-		"\u000e\u00a4\u0001\u0000\u0000\u0000\u0010\u00a6\u0001\u0000\u0000\u0000"+
-		"\u0012\u00ad\u0001\u0000\u0000\u0000\u0014\u00b8\u0001\u0000\u0000\u0000"+
-		"\u0016\u00bc\u0001\u0000\u0000\u0000\u0018\u00c1\u0001\u0000\u0000\u0000"+
-		"\u001a\u00e8\u0001\u0000\u0000\u0000\u001c\u0144\u0001\u0000\u0000\u0000"+
-		"\u001e\u0146\u0001\u0000\u0000\u0000 \u0149\u0001\u0000\u0000\u0000\""+
-		"\u014c\u0001\u0000\u0000\u0000$\u014f\u0001\u0000\u0000\u0000&\u0152\u0001"+
-		"\u0000\u0000\u0000(\u0155\u0001\u0000\u0000\u0000*\u0158\u0001\u0000\u0000"+
-		"\u0000,\u015b\u0001\u0000\u0000\u0000.\u015e\u0001\u0000\u0000\u00000"+
-		"\u0161\u0001\u0000\u0000\u00002\u0164\u0001\u0000\u0000\u00004\u0167\u0001"+
-		"\u0000\u0000\u00006\u016a\u0001\u0000\u0000\u00008\u016d\u0001\u0000\u0000"+
-		"\u0000:\u0170\u0001\u0000\u0000\u0000<\u0173\u0001\u0000\u0000\u0000>"+
+		"\u000e\u0094\u0001\u0000\u0000\u0000\u0010\u00a1\u0001\u0000\u0000\u0000"+
+		"\u0012\u00a8\u0001\u0000\u0000\u0000\u0014\u00b3\u0001\u0000\u0000\u0000"+
+		"\u0016\u00b7\u0001\u0000\u0000\u0000\u0018\u00bc\u0001\u0000\u0000\u0000"+
+		"\u001a\u00e3\u0001\u0000\u0000\u0000\u001c\u013f\u0001\u0000\u0000\u0000"+
+		"\u001e\u0141\u0001\u0000\u0000\u0000 \u0144\u0001\u0000\u0000\u0000\""+
+		"\u0147\u0001\u0000\u0000\u0000$\u014a\u0001\u0000\u0000\u0000&\u014d\u0001"+
+		"\u0000\u0000\u0000(\u0150\u0001\u0000\u0000\u0000*\u0153\u0001\u0000\u0000"+
+		"\u0000,\u0156\u0001\u0000\u0000\u0000.\u0159\u0001\u0000\u0000\u00000"+
+		"\u015c\u0001\u0000\u0000\u00002\u015f\u0001\u0000\u0000\u00004\u0162\u0001"+
+		"\u0000\u0000\u00006\u0165\u0001\u0000\u0000\u00008\u0168\u0001\u0000\u0000"+
+		"\u0000:\u016b\u0001\u0000\u0000\u0000<\u016e\u0001\u0000\u0000\u0000>"+
 		"?\u0003\u0002\u0001\u0000?@\u0006\u0000\uffff\uffff\u0000@B\u0001\u0000"+
 		"\u0000\u0000A>\u0001\u0000\u0000\u0000BE\u0001\u0000\u0000\u0000CA\u0001"+
 		"\u0000\u0000\u0000CD\u0001\u0000\u0000\u0000D\u0001\u0001\u0000\u0000"+
@@ -2114,130 +2101,127 @@ public class simplfParser extends Parser {
 		"\u0000\u0091\u0092\u0005\u0004\u0000\u0000\u0092\u0093\u0006\u0006\uffff"+
 		"\uffff\u0000\u0093\r\u0001\u0000\u0000\u0000\u0094\u0095\u0005\u001a\u0000"+
 		"\u0000\u0095\u0096\u0005\u0001\u0000\u0000\u0096\u0097\u0003\u001a\r\u0000"+
-		"\u0097\u0098\u0005\u0002\u0000\u0000\u0098\u0099\u0003\n\u0005\u0000\u0099"+
-		"\u009a\u0006\u0007\uffff\uffff\u0000\u009a\u00a5\u0001\u0000\u0000\u0000"+
-		"\u009b\u009c\u0005\u001a\u0000\u0000\u009c\u009d\u0005\u0001\u0000\u0000"+
-		"\u009d\u009e\u0003\u001a\r\u0000\u009e\u009f\u0005\u0002\u0000\u0000\u009f"+
-		"\u00a0\u0003\n\u0005\u0000\u00a0\u00a1\u0005\u0016\u0000\u0000\u00a1\u00a2"+
-		"\u0003\n\u0005\u0000\u00a2\u00a3\u0006\u0007\uffff\uffff\u0000\u00a3\u00a5"+
-		"\u0001\u0000\u0000\u0000\u00a4\u0094\u0001\u0000\u0000\u0000\u00a4\u009b"+
-		"\u0001\u0000\u0000\u0000\u00a5\u000f\u0001\u0000\u0000\u0000\u00a6\u00a7"+
-		"\u0005\"\u0000\u0000\u00a7\u00a8\u0005\u0001\u0000\u0000\u00a8\u00a9\u0003"+
-		"\u001a\r\u0000\u00a9\u00aa\u0005\u0002\u0000\u0000\u00aa\u00ab\u0003\n"+
-		"\u0005\u0000\u00ab\u00ac\u0006\b\uffff\uffff\u0000\u00ac\u0011\u0001\u0000"+
-		"\u0000\u0000\u00ad\u00ae\u0005\u0018\u0000\u0000\u00ae\u00af\u0005\u0001"+
-		"\u0000\u0000\u00af\u00b0\u0003\u001a\r\u0000\u00b0\u00b1\u0005\t\u0000"+
-		"\u0000\u00b1\u00b2\u0003\u001a\r\u0000\u00b2\u00b3\u0005\t\u0000\u0000"+
-		"\u00b3\u00b4\u0003\u001a\r\u0000\u00b4\u00b5\u0005\u0002\u0000\u0000\u00b5"+
-		"\u00b6\u0003\n\u0005\u0000\u00b6\u00b7\u0006\t\uffff\uffff\u0000\u00b7"+
-		"\u0013\u0001\u0000\u0000\u0000\u00b8\u00b9\u0003\u001a\r\u0000\u00b9\u00ba"+
-		"\u0005\t\u0000\u0000\u00ba\u00bb\u0006\n\uffff\uffff\u0000\u00bb\u0015"+
-		"\u0001\u0000\u0000\u0000\u00bc\u00bd\u0005\u001d\u0000\u0000\u00bd\u00be"+
-		"\u0003\u001a\r\u0000\u00be\u00bf\u0005\t\u0000\u0000\u00bf\u00c0\u0006"+
-		"\u000b\uffff\uffff\u0000\u00c0\u0017\u0001\u0000\u0000\u0000\u00c1\u00c2"+
-		"\u0003\u001a\r\u0000\u00c2\u00c9\u0006\f\uffff\uffff\u0000\u00c3\u00c4"+
-		"\u0005\u0005\u0000\u0000\u00c4\u00c5\u0003\u001a\r\u0000\u00c5\u00c6\u0006"+
-		"\f\uffff\uffff\u0000\u00c6\u00c8\u0001\u0000\u0000\u0000\u00c7\u00c3\u0001"+
-		"\u0000\u0000\u0000\u00c8\u00cb\u0001\u0000\u0000\u0000\u00c9\u00c7\u0001"+
-		"\u0000\u0000\u0000\u00c9\u00ca\u0001\u0000\u0000\u0000\u00ca\u0019\u0001"+
-		"\u0000\u0000\u0000\u00cb\u00c9\u0001\u0000\u0000\u0000\u00cc\u00cd\u0006"+
-		"\r\uffff\uffff\u0000\u00cd\u00ce\u0003\u001c\u000e\u0000\u00ce\u00cf\u0006"+
-		"\r\uffff\uffff\u0000\u00cf\u00e9\u0001\u0000\u0000\u0000\u00d0\u00d1\u0003"+
-		"\u001e\u000f\u0000\u00d1\u00d2\u0006\r\uffff\uffff\u0000\u00d2\u00e9\u0001"+
-		"\u0000\u0000\u0000\u00d3\u00d4\u00034\u001a\u0000\u00d4\u00d5\u0006\r"+
-		"\uffff\uffff\u0000\u00d5\u00da\u0001\u0000\u0000\u0000\u00d6\u00d7\u0003"+
-		":\u001d\u0000\u00d7\u00d8\u0006\r\uffff\uffff\u0000\u00d8\u00da\u0001"+
-		"\u0000\u0000\u0000\u00d9\u00d3\u0001\u0000\u0000\u0000\u00d9\u00d6\u0001"+
-		"\u0000\u0000\u0000\u00da\u00db\u0001\u0000\u0000\u0000\u00db\u00dc\u0003"+
-		"\u001a\r\t\u00dc\u00dd\u0006\r\uffff\uffff\u0000\u00dd\u00e9\u0001\u0000"+
-		"\u0000\u0000\u00de\u00df\u0003\u001e\u000f\u0000\u00df\u00e0\u0005\u000e"+
-		"\u0000\u0000\u00e0\u00e1\u0003\u001a\r\u0002\u00e1\u00e2\u0006\r\uffff"+
-		"\uffff\u0000\u00e2\u00e9\u0001\u0000\u0000\u0000\u00e3\u00e4\u0005\u0001"+
-		"\u0000\u0000\u00e4\u00e5\u0003\u001a\r\u0000\u00e5\u00e6\u0005\u0002\u0000"+
-		"\u0000\u00e6\u00e7\u0006\r\uffff\uffff\u0000\u00e7\u00e9\u0001\u0000\u0000"+
-		"\u0000\u00e8\u00cc\u0001\u0000\u0000\u0000\u00e8\u00d0\u0001\u0000\u0000"+
-		"\u0000\u00e8\u00d9\u0001\u0000\u0000\u0000\u00e8\u00de\u0001\u0000\u0000"+
-		"\u0000\u00e8\u00e3\u0001\u0000\u0000\u0000\u00e9\u0137\u0001\u0000\u0000"+
-		"\u0000\u00ea\u00f1\n\b\u0000\u0000\u00eb\u00ec\u00036\u001b\u0000\u00ec"+
-		"\u00ed\u0006\r\uffff\uffff\u0000\u00ed\u00f2\u0001\u0000\u0000\u0000\u00ee"+
-		"\u00ef\u00038\u001c\u0000\u00ef\u00f0\u0006\r\uffff\uffff\u0000\u00f0"+
-		"\u00f2\u0001\u0000\u0000\u0000\u00f1\u00eb\u0001\u0000\u0000\u0000\u00f1"+
-		"\u00ee\u0001\u0000\u0000\u0000\u00f2\u00f3\u0001\u0000\u0000\u0000\u00f3"+
-		"\u00f4\u0003\u001a\r\t\u00f4\u00f5\u0006\r\uffff\uffff\u0000\u00f5\u0136"+
-		"\u0001\u0000\u0000\u0000\u00f6\u00fd\n\u0007\u0000\u0000\u00f7\u00f8\u0003"+
-		"2\u0019\u0000\u00f8\u00f9\u0006\r\uffff\uffff\u0000\u00f9\u00fe\u0001"+
-		"\u0000\u0000\u0000\u00fa\u00fb\u00034\u001a\u0000\u00fb\u00fc\u0006\r"+
-		"\uffff\uffff\u0000\u00fc\u00fe\u0001\u0000\u0000\u0000\u00fd\u00f7\u0001"+
-		"\u0000\u0000\u0000\u00fd\u00fa\u0001\u0000\u0000\u0000\u00fe\u00ff\u0001"+
-		"\u0000\u0000\u0000\u00ff\u0100\u0003\u001a\r\b\u0100\u0101\u0006\r\uffff"+
-		"\uffff\u0000\u0101\u0136\u0001\u0000\u0000\u0000\u0102\u010f\n\u0006\u0000"+
-		"\u0000\u0103\u0104\u0003*\u0015\u0000\u0104\u0105\u0006\r\uffff\uffff"+
-		"\u0000\u0105\u0110\u0001\u0000\u0000\u0000\u0106\u0107\u0003,\u0016\u0000"+
-		"\u0107\u0108\u0006\r\uffff\uffff\u0000\u0108\u0110\u0001\u0000\u0000\u0000"+
-		"\u0109\u010a\u0003.\u0017\u0000\u010a\u010b\u0006\r\uffff\uffff\u0000"+
-		"\u010b\u0110\u0001\u0000\u0000\u0000\u010c\u010d\u00030\u0018\u0000\u010d"+
-		"\u010e\u0006\r\uffff\uffff\u0000\u010e\u0110\u0001\u0000\u0000\u0000\u010f"+
-		"\u0103\u0001\u0000\u0000\u0000\u010f\u0106\u0001\u0000\u0000\u0000\u010f"+
-		"\u0109\u0001\u0000\u0000\u0000\u010f\u010c\u0001\u0000\u0000\u0000\u0110"+
-		"\u0111\u0001\u0000\u0000\u0000\u0111\u0112\u0003\u001a\r\u0007\u0112\u0113"+
-		"\u0006\r\uffff\uffff\u0000\u0113\u0136\u0001\u0000\u0000\u0000\u0114\u011b"+
-		"\n\u0005\u0000\u0000\u0115\u0116\u0003(\u0014\u0000\u0116\u0117\u0006"+
-		"\r\uffff\uffff\u0000\u0117\u011c\u0001\u0000\u0000\u0000\u0118\u0119\u0003"+
-		"&\u0013\u0000\u0119\u011a\u0006\r\uffff\uffff\u0000\u011a\u011c\u0001"+
-		"\u0000\u0000\u0000\u011b\u0115\u0001\u0000\u0000\u0000\u011b\u0118\u0001"+
-		"\u0000\u0000\u0000\u011c\u011d\u0001\u0000\u0000\u0000\u011d\u011e\u0003"+
-		"\u001a\r\u0006\u011e\u011f\u0006\r\uffff\uffff\u0000\u011f\u0136\u0001"+
-		"\u0000\u0000\u0000\u0120\u0121\n\u0004\u0000\u0000\u0121\u0122\u0003\""+
-		"\u0011\u0000\u0122\u0123\u0003\u001a\r\u0005\u0123\u0124\u0006\r\uffff"+
-		"\uffff\u0000\u0124\u0136\u0001\u0000\u0000\u0000\u0125\u0126\n\u0003\u0000"+
-		"\u0000\u0126\u0127\u0003 \u0010\u0000\u0127\u0128\u0003\u001a\r\u0004"+
-		"\u0128\u0129\u0006\r\uffff\uffff\u0000\u0129\u0136\u0001\u0000\u0000\u0000"+
-		"\u012a\u012b\n\u000b\u0000\u0000\u012b\u012c\u0005\u0001\u0000\u0000\u012c"+
-		"\u012d\u0003<\u001e\u0000\u012d\u012e\u0006\r\uffff\uffff\u0000\u012e"+
-		"\u0136\u0001\u0000\u0000\u0000\u012f\u0130\n\n\u0000\u0000\u0130\u0131"+
-		"\u0005\u0001\u0000\u0000\u0131\u0132\u0003\u0018\f\u0000\u0132\u0133\u0003"+
-		"<\u001e\u0000\u0133\u0134\u0006\r\uffff\uffff\u0000\u0134\u0136\u0001"+
-		"\u0000\u0000\u0000\u0135\u00ea\u0001\u0000\u0000\u0000\u0135\u00f6\u0001"+
-		"\u0000\u0000\u0000\u0135\u0102\u0001\u0000\u0000\u0000\u0135\u0114\u0001"+
-		"\u0000\u0000\u0000\u0135\u0120\u0001\u0000\u0000\u0000\u0135\u0125\u0001"+
-		"\u0000\u0000\u0000\u0135\u012a\u0001\u0000\u0000\u0000\u0135\u012f\u0001"+
-		"\u0000\u0000\u0000\u0136\u0139\u0001\u0000\u0000\u0000\u0137\u0135\u0001"+
-		"\u0000\u0000\u0000\u0137\u0138\u0001\u0000\u0000\u0000\u0138\u001b\u0001"+
-		"\u0000\u0000\u0000\u0139\u0137\u0001\u0000\u0000\u0000\u013a\u013b\u0005"+
-		"$\u0000\u0000\u013b\u0145\u0006\u000e\uffff\uffff\u0000\u013c\u013d\u0005"+
-		"%\u0000\u0000\u013d\u0145\u0006\u000e\uffff\uffff\u0000\u013e\u013f\u0005"+
-		" \u0000\u0000\u013f\u0145\u0006\u000e\uffff\uffff\u0000\u0140\u0141\u0005"+
-		"\u0017\u0000\u0000\u0141\u0145\u0006\u000e\uffff\uffff\u0000\u0142\u0143"+
-		"\u0005\u001b\u0000\u0000\u0143\u0145\u0006\u000e\uffff\uffff\u0000\u0144"+
-		"\u013a\u0001\u0000\u0000\u0000\u0144\u013c\u0001\u0000\u0000\u0000\u0144"+
-		"\u013e\u0001\u0000\u0000\u0000\u0144\u0140\u0001\u0000\u0000\u0000\u0144"+
-		"\u0142\u0001\u0000\u0000\u0000\u0145\u001d\u0001\u0000\u0000\u0000\u0146"+
-		"\u0147\u0005#\u0000\u0000\u0147\u0148\u0006\u000f\uffff\uffff\u0000\u0148"+
-		"\u001f\u0001\u0000\u0000\u0000\u0149\u014a\u0005\u001c\u0000\u0000\u014a"+
-		"\u014b\u0006\u0010\uffff\uffff\u0000\u014b!\u0001\u0000\u0000\u0000\u014c"+
-		"\u014d\u0005\u0014\u0000\u0000\u014d\u014e\u0006\u0011\uffff\uffff\u0000"+
-		"\u014e#\u0001\u0000\u0000\u0000\u014f\u0150\u0005\u000e\u0000\u0000\u0150"+
-		"\u0151\u0006\u0012\uffff\uffff\u0000\u0151%\u0001\u0000\u0000\u0000\u0152"+
-		"\u0153\u0005\r\u0000\u0000\u0153\u0154\u0006\u0013\uffff\uffff\u0000\u0154"+
-		"\'\u0001\u0000\u0000\u0000\u0155\u0156\u0005\u000f\u0000\u0000\u0156\u0157"+
-		"\u0006\u0014\uffff\uffff\u0000\u0157)\u0001\u0000\u0000\u0000\u0158\u0159"+
-		"\u0005\u0010\u0000\u0000\u0159\u015a\u0006\u0015\uffff\uffff\u0000\u015a"+
-		"+\u0001\u0000\u0000\u0000\u015b\u015c\u0005\u0011\u0000\u0000\u015c\u015d"+
-		"\u0006\u0016\uffff\uffff\u0000\u015d-\u0001\u0000\u0000\u0000\u015e\u015f"+
-		"\u0005\u0012\u0000\u0000\u015f\u0160\u0006\u0017\uffff\uffff\u0000\u0160"+
-		"/\u0001\u0000\u0000\u0000\u0161\u0162\u0005\u0013\u0000\u0000\u0162\u0163"+
-		"\u0006\u0018\uffff\uffff\u0000\u01631\u0001\u0000\u0000\u0000\u0164\u0165"+
-		"\u0005\b\u0000\u0000\u0165\u0166\u0006\u0019\uffff\uffff\u0000\u01663"+
-		"\u0001\u0000\u0000\u0000\u0167\u0168\u0005\u0007\u0000\u0000\u0168\u0169"+
-		"\u0006\u001a\uffff\uffff\u0000\u01695\u0001\u0000\u0000\u0000\u016a\u016b"+
-		"\u0005\u000b\u0000\u0000\u016b\u016c\u0006\u001b\uffff\uffff\u0000\u016c"+
-		"7\u0001\u0000\u0000\u0000\u016d\u016e\u0005\n\u0000\u0000\u016e\u016f"+
-		"\u0006\u001c\uffff\uffff\u0000\u016f9\u0001\u0000\u0000\u0000\u0170\u0171"+
-		"\u0005\f\u0000\u0000\u0171\u0172\u0006\u001d\uffff\uffff\u0000\u0172;"+
-		"\u0001\u0000\u0000\u0000\u0173\u0174\u0005\u0002\u0000\u0000\u0174\u0175"+
-		"\u0006\u001e\uffff\uffff\u0000\u0175=\u0001\u0000\u0000\u0000\u0011CO"+
-		"`jy\u008d\u00a4\u00c9\u00d9\u00e8\u00f1\u00fd\u010f\u011b\u0135\u0137"+
-		"\u0144";
+		"\u0097\u0098\u0005\u0002\u0000\u0000\u0098\u009d\u0003\n\u0005\u0000\u0099"+
+		"\u009a\u0005\u0016\u0000\u0000\u009a\u009b\u0003\n\u0005\u0000\u009b\u009c"+
+		"\u0006\u0007\uffff\uffff\u0000\u009c\u009e\u0001\u0000\u0000\u0000\u009d"+
+		"\u0099\u0001\u0000\u0000\u0000\u009d\u009e\u0001\u0000\u0000\u0000\u009e"+
+		"\u009f\u0001\u0000\u0000\u0000\u009f\u00a0\u0006\u0007\uffff\uffff\u0000"+
+		"\u00a0\u000f\u0001\u0000\u0000\u0000\u00a1\u00a2\u0005\"\u0000\u0000\u00a2"+
+		"\u00a3\u0005\u0001\u0000\u0000\u00a3\u00a4\u0003\u001a\r\u0000\u00a4\u00a5"+
+		"\u0005\u0002\u0000\u0000\u00a5\u00a6\u0003\n\u0005\u0000\u00a6\u00a7\u0006"+
+		"\b\uffff\uffff\u0000\u00a7\u0011\u0001\u0000\u0000\u0000\u00a8\u00a9\u0005"+
+		"\u0018\u0000\u0000\u00a9\u00aa\u0005\u0001\u0000\u0000\u00aa\u00ab\u0003"+
+		"\u001a\r\u0000\u00ab\u00ac\u0005\t\u0000\u0000\u00ac\u00ad\u0003\u001a"+
+		"\r\u0000\u00ad\u00ae\u0005\t\u0000\u0000\u00ae\u00af\u0003\u001a\r\u0000"+
+		"\u00af\u00b0\u0005\u0002\u0000\u0000\u00b0\u00b1\u0003\n\u0005\u0000\u00b1"+
+		"\u00b2\u0006\t\uffff\uffff\u0000\u00b2\u0013\u0001\u0000\u0000\u0000\u00b3"+
+		"\u00b4\u0003\u001a\r\u0000\u00b4\u00b5\u0005\t\u0000\u0000\u00b5\u00b6"+
+		"\u0006\n\uffff\uffff\u0000\u00b6\u0015\u0001\u0000\u0000\u0000\u00b7\u00b8"+
+		"\u0005\u001d\u0000\u0000\u00b8\u00b9\u0003\u001a\r\u0000\u00b9\u00ba\u0005"+
+		"\t\u0000\u0000\u00ba\u00bb\u0006\u000b\uffff\uffff\u0000\u00bb\u0017\u0001"+
+		"\u0000\u0000\u0000\u00bc\u00bd\u0003\u001a\r\u0000\u00bd\u00c4\u0006\f"+
+		"\uffff\uffff\u0000\u00be\u00bf\u0005\u0005\u0000\u0000\u00bf\u00c0\u0003"+
+		"\u001a\r\u0000\u00c0\u00c1\u0006\f\uffff\uffff\u0000\u00c1\u00c3\u0001"+
+		"\u0000\u0000\u0000\u00c2\u00be\u0001\u0000\u0000\u0000\u00c3\u00c6\u0001"+
+		"\u0000\u0000\u0000\u00c4\u00c2\u0001\u0000\u0000\u0000\u00c4\u00c5\u0001"+
+		"\u0000\u0000\u0000\u00c5\u0019\u0001\u0000\u0000\u0000\u00c6\u00c4\u0001"+
+		"\u0000\u0000\u0000\u00c7\u00c8\u0006\r\uffff\uffff\u0000\u00c8\u00c9\u0003"+
+		"\u001c\u000e\u0000\u00c9\u00ca\u0006\r\uffff\uffff\u0000\u00ca\u00e4\u0001"+
+		"\u0000\u0000\u0000\u00cb\u00cc\u0003\u001e\u000f\u0000\u00cc\u00cd\u0006"+
+		"\r\uffff\uffff\u0000\u00cd\u00e4\u0001\u0000\u0000\u0000\u00ce\u00cf\u0003"+
+		"4\u001a\u0000\u00cf\u00d0\u0006\r\uffff\uffff\u0000\u00d0\u00d5\u0001"+
+		"\u0000\u0000\u0000\u00d1\u00d2\u0003:\u001d\u0000\u00d2\u00d3\u0006\r"+
+		"\uffff\uffff\u0000\u00d3\u00d5\u0001\u0000\u0000\u0000\u00d4\u00ce\u0001"+
+		"\u0000\u0000\u0000\u00d4\u00d1\u0001\u0000\u0000\u0000\u00d5\u00d6\u0001"+
+		"\u0000\u0000\u0000\u00d6\u00d7\u0003\u001a\r\t\u00d7\u00d8\u0006\r\uffff"+
+		"\uffff\u0000\u00d8\u00e4\u0001\u0000\u0000\u0000\u00d9\u00da\u0003\u001e"+
+		"\u000f\u0000\u00da\u00db\u0005\u000e\u0000\u0000\u00db\u00dc\u0003\u001a"+
+		"\r\u0002\u00dc\u00dd\u0006\r\uffff\uffff\u0000\u00dd\u00e4\u0001\u0000"+
+		"\u0000\u0000\u00de\u00df\u0005\u0001\u0000\u0000\u00df\u00e0\u0003\u001a"+
+		"\r\u0000\u00e0\u00e1\u0005\u0002\u0000\u0000\u00e1\u00e2\u0006\r\uffff"+
+		"\uffff\u0000\u00e2\u00e4\u0001\u0000\u0000\u0000\u00e3\u00c7\u0001\u0000"+
+		"\u0000\u0000\u00e3\u00cb\u0001\u0000\u0000\u0000\u00e3\u00d4\u0001\u0000"+
+		"\u0000\u0000\u00e3\u00d9\u0001\u0000\u0000\u0000\u00e3\u00de\u0001\u0000"+
+		"\u0000\u0000\u00e4\u0132\u0001\u0000\u0000\u0000\u00e5\u00ec\n\b\u0000"+
+		"\u0000\u00e6\u00e7\u00036\u001b\u0000\u00e7\u00e8\u0006\r\uffff\uffff"+
+		"\u0000\u00e8\u00ed\u0001\u0000\u0000\u0000\u00e9\u00ea\u00038\u001c\u0000"+
+		"\u00ea\u00eb\u0006\r\uffff\uffff\u0000\u00eb\u00ed\u0001\u0000\u0000\u0000"+
+		"\u00ec\u00e6\u0001\u0000\u0000\u0000\u00ec\u00e9\u0001\u0000\u0000\u0000"+
+		"\u00ed\u00ee\u0001\u0000\u0000\u0000\u00ee\u00ef\u0003\u001a\r\t\u00ef"+
+		"\u00f0\u0006\r\uffff\uffff\u0000\u00f0\u0131\u0001\u0000\u0000\u0000\u00f1"+
+		"\u00f8\n\u0007\u0000\u0000\u00f2\u00f3\u00032\u0019\u0000\u00f3\u00f4"+
+		"\u0006\r\uffff\uffff\u0000\u00f4\u00f9\u0001\u0000\u0000\u0000\u00f5\u00f6"+
+		"\u00034\u001a\u0000\u00f6\u00f7\u0006\r\uffff\uffff\u0000\u00f7\u00f9"+
+		"\u0001\u0000\u0000\u0000\u00f8\u00f2\u0001\u0000\u0000\u0000\u00f8\u00f5"+
+		"\u0001\u0000\u0000\u0000\u00f9\u00fa\u0001\u0000\u0000\u0000\u00fa\u00fb"+
+		"\u0003\u001a\r\b\u00fb\u00fc\u0006\r\uffff\uffff\u0000\u00fc\u0131\u0001"+
+		"\u0000\u0000\u0000\u00fd\u010a\n\u0006\u0000\u0000\u00fe\u00ff\u0003*"+
+		"\u0015\u0000\u00ff\u0100\u0006\r\uffff\uffff\u0000\u0100\u010b\u0001\u0000"+
+		"\u0000\u0000\u0101\u0102\u0003,\u0016\u0000\u0102\u0103\u0006\r\uffff"+
+		"\uffff\u0000\u0103\u010b\u0001\u0000\u0000\u0000\u0104\u0105\u0003.\u0017"+
+		"\u0000\u0105\u0106\u0006\r\uffff\uffff\u0000\u0106\u010b\u0001\u0000\u0000"+
+		"\u0000\u0107\u0108\u00030\u0018\u0000\u0108\u0109\u0006\r\uffff\uffff"+
+		"\u0000\u0109\u010b\u0001\u0000\u0000\u0000\u010a\u00fe\u0001\u0000\u0000"+
+		"\u0000\u010a\u0101\u0001\u0000\u0000\u0000\u010a\u0104\u0001\u0000\u0000"+
+		"\u0000\u010a\u0107\u0001\u0000\u0000\u0000\u010b\u010c\u0001\u0000\u0000"+
+		"\u0000\u010c\u010d\u0003\u001a\r\u0007\u010d\u010e\u0006\r\uffff\uffff"+
+		"\u0000\u010e\u0131\u0001\u0000\u0000\u0000\u010f\u0116\n\u0005\u0000\u0000"+
+		"\u0110\u0111\u0003(\u0014\u0000\u0111\u0112\u0006\r\uffff\uffff\u0000"+
+		"\u0112\u0117\u0001\u0000\u0000\u0000\u0113\u0114\u0003&\u0013\u0000\u0114"+
+		"\u0115\u0006\r\uffff\uffff\u0000\u0115\u0117\u0001\u0000\u0000\u0000\u0116"+
+		"\u0110\u0001\u0000\u0000\u0000\u0116\u0113\u0001\u0000\u0000\u0000\u0117"+
+		"\u0118\u0001\u0000\u0000\u0000\u0118\u0119\u0003\u001a\r\u0006\u0119\u011a"+
+		"\u0006\r\uffff\uffff\u0000\u011a\u0131\u0001\u0000\u0000\u0000\u011b\u011c"+
+		"\n\u0004\u0000\u0000\u011c\u011d\u0003\"\u0011\u0000\u011d\u011e\u0003"+
+		"\u001a\r\u0005\u011e\u011f\u0006\r\uffff\uffff\u0000\u011f\u0131\u0001"+
+		"\u0000\u0000\u0000\u0120\u0121\n\u0003\u0000\u0000\u0121\u0122\u0003 "+
+		"\u0010\u0000\u0122\u0123\u0003\u001a\r\u0004\u0123\u0124\u0006\r\uffff"+
+		"\uffff\u0000\u0124\u0131\u0001\u0000\u0000\u0000\u0125\u0126\n\u000b\u0000"+
+		"\u0000\u0126\u0127\u0005\u0001\u0000\u0000\u0127\u0128\u0003<\u001e\u0000"+
+		"\u0128\u0129\u0006\r\uffff\uffff\u0000\u0129\u0131\u0001\u0000\u0000\u0000"+
+		"\u012a\u012b\n\n\u0000\u0000\u012b\u012c\u0005\u0001\u0000\u0000\u012c"+
+		"\u012d\u0003\u0018\f\u0000\u012d\u012e\u0003<\u001e\u0000\u012e\u012f"+
+		"\u0006\r\uffff\uffff\u0000\u012f\u0131\u0001\u0000\u0000\u0000\u0130\u00e5"+
+		"\u0001\u0000\u0000\u0000\u0130\u00f1\u0001\u0000\u0000\u0000\u0130\u00fd"+
+		"\u0001\u0000\u0000\u0000\u0130\u010f\u0001\u0000\u0000\u0000\u0130\u011b"+
+		"\u0001\u0000\u0000\u0000\u0130\u0120\u0001\u0000\u0000\u0000\u0130\u0125"+
+		"\u0001\u0000\u0000\u0000\u0130\u012a\u0001\u0000\u0000\u0000\u0131\u0134"+
+		"\u0001\u0000\u0000\u0000\u0132\u0130\u0001\u0000\u0000\u0000\u0132\u0133"+
+		"\u0001\u0000\u0000\u0000\u0133\u001b\u0001\u0000\u0000\u0000\u0134\u0132"+
+		"\u0001\u0000\u0000\u0000\u0135\u0136\u0005$\u0000\u0000\u0136\u0140\u0006"+
+		"\u000e\uffff\uffff\u0000\u0137\u0138\u0005%\u0000\u0000\u0138\u0140\u0006"+
+		"\u000e\uffff\uffff\u0000\u0139\u013a\u0005 \u0000\u0000\u013a\u0140\u0006"+
+		"\u000e\uffff\uffff\u0000\u013b\u013c\u0005\u0017\u0000\u0000\u013c\u0140"+
+		"\u0006\u000e\uffff\uffff\u0000\u013d\u013e\u0005\u001b\u0000\u0000\u013e"+
+		"\u0140\u0006\u000e\uffff\uffff\u0000\u013f\u0135\u0001\u0000\u0000\u0000"+
+		"\u013f\u0137\u0001\u0000\u0000\u0000\u013f\u0139\u0001\u0000\u0000\u0000"+
+		"\u013f\u013b\u0001\u0000\u0000\u0000\u013f\u013d\u0001\u0000\u0000\u0000"+
+		"\u0140\u001d\u0001\u0000\u0000\u0000\u0141\u0142\u0005#\u0000\u0000\u0142"+
+		"\u0143\u0006\u000f\uffff\uffff\u0000\u0143\u001f\u0001\u0000\u0000\u0000"+
+		"\u0144\u0145\u0005\u001c\u0000\u0000\u0145\u0146\u0006\u0010\uffff\uffff"+
+		"\u0000\u0146!\u0001\u0000\u0000\u0000\u0147\u0148\u0005\u0014\u0000\u0000"+
+		"\u0148\u0149\u0006\u0011\uffff\uffff\u0000\u0149#\u0001\u0000\u0000\u0000"+
+		"\u014a\u014b\u0005\u000e\u0000\u0000\u014b\u014c\u0006\u0012\uffff\uffff"+
+		"\u0000\u014c%\u0001\u0000\u0000\u0000\u014d\u014e\u0005\r\u0000\u0000"+
+		"\u014e\u014f\u0006\u0013\uffff\uffff\u0000\u014f\'\u0001\u0000\u0000\u0000"+
+		"\u0150\u0151\u0005\u000f\u0000\u0000\u0151\u0152\u0006\u0014\uffff\uffff"+
+		"\u0000\u0152)\u0001\u0000\u0000\u0000\u0153\u0154\u0005\u0010\u0000\u0000"+
+		"\u0154\u0155\u0006\u0015\uffff\uffff\u0000\u0155+\u0001\u0000\u0000\u0000"+
+		"\u0156\u0157\u0005\u0011\u0000\u0000\u0157\u0158\u0006\u0016\uffff\uffff"+
+		"\u0000\u0158-\u0001\u0000\u0000\u0000\u0159\u015a\u0005\u0012\u0000\u0000"+
+		"\u015a\u015b\u0006\u0017\uffff\uffff\u0000\u015b/\u0001\u0000\u0000\u0000"+
+		"\u015c\u015d\u0005\u0013\u0000\u0000\u015d\u015e\u0006\u0018\uffff\uffff"+
+		"\u0000\u015e1\u0001\u0000\u0000\u0000\u015f\u0160\u0005\b\u0000\u0000"+
+		"\u0160\u0161\u0006\u0019\uffff\uffff\u0000\u01613\u0001\u0000\u0000\u0000"+
+		"\u0162\u0163\u0005\u0007\u0000\u0000\u0163\u0164\u0006\u001a\uffff\uffff"+
+		"\u0000\u01645\u0001\u0000\u0000\u0000\u0165\u0166\u0005\u000b\u0000\u0000"+
+		"\u0166\u0167\u0006\u001b\uffff\uffff\u0000\u01677\u0001\u0000\u0000\u0000"+
+		"\u0168\u0169\u0005\n\u0000\u0000\u0169\u016a\u0006\u001c\uffff\uffff\u0000"+
+		"\u016a9\u0001\u0000\u0000\u0000\u016b\u016c\u0005\f\u0000\u0000\u016c"+
+		"\u016d\u0006\u001d\uffff\uffff\u0000\u016d;\u0001\u0000\u0000\u0000\u016e"+
+		"\u016f\u0005\u0002\u0000\u0000\u016f\u0170\u0006\u001e\uffff\uffff\u0000"+
+		"\u0170=\u0001\u0000\u0000\u0000\u0011CO`jy\u008d\u009d\u00c4\u00d4\u00e3"+
+		"\u00ec\u00f8\u010a\u0116\u0130\u0132\u013f";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -0,0 +1,76 @@
+import argparse
+import glob
+import os
+import subprocess
+import sys
+import tempfile
+
+# Every test runs on each engine. Leading comments of a test can set:
+#   // flags: --pratt    extra arguments for every run
+#   // exit: 65          the expected exit code (default 0)
+#   // cache: twice      run twice against a fresh --cache-dir; the second
+#                        run must be served from the cache
+ENGINES = [[], ['--specialize'], ['--jit'], ['--closures'], ['--nanbox']]
+
+
+def directives(path):
+    found = {}
+    with open(path) as f:
+        for line in f:
+            if not line.startswith('//'):
+                break
+            key, sep, value = line[2:].partition(':')
+            if sep:
+                found[key.strip()] = value.strip()
+    return found
+
+
+def run(args, path):
+    result = subprocess.run(['java', '-cp', 'bin:antlr-4.13.2-complete.jar', 'simplf.Simplf'] + args + [path],
+                            stdout=subprocess.PIPE, stderr=subprocess.STDOUT, universal_newlines=True)
+    return result.stdout, result.returncode
+
+
+def check(path, engine):
+    options = directives(path)
+    with open(path[:-len('.simplf')] + '_out') as f:
+        expected = f.read().rstrip('\n')
+    expectedCode = int(options.get('exit', '0'))
+    args = engine + options.get('flags', '').split()
+
+    failures = []
+    if options.get('cache') == 'twice':
+        with tempfile.TemporaryDirectory() as cacheDir:
+            args = args + ['--cache-dir=' + cacheDir]
+            runs = [run(args, path)]
+            if not glob.glob(os.path.join(cacheDir, '*.sfc')):
+                failures.append('nothing was cached')
+            runs.append(run(args, path))
+    else:
+        runs = [run(args, path)]
+
+    for output, code in runs:
+        if output.rstrip('\n') != expected:
+            failures.append('output differs:\n' + output)
+        if code != expectedCode:
+            failures.append('exit code %d, expected %d' % (code, expectedCode))
+    return failures
+
+
+if __name__ == "__main__":
+    parser = argparse.ArgumentParser()
+    parser.add_argument("filenames", nargs='*')
+    args = parser.parse_args()
+
+    paths = args.filenames or sorted(glob.glob('tests/*.simplf'))
+    failed = 0
+    for path in paths:
+        for engine in ENGINES:
+            failures = check(path, engine)
+            if failures:
+                failed += 1
+                print('FAIL %s %s' % (path, ' '.join(engine)))
+                for failure in failures:
+                    print('  ' + failure)
+    print('%d of %d runs failed' % (failed, len(paths) * len(ENGINES)))
+    sys.exit(1 if failed else 0)